@@ -0,0 +1,93 @@
+package experton.ai.employee.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import experton.ai.employee.EmployeeMicroserviceApplication;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+
+/**
+ * Deterministic data sets shared by the benchmarks, so results are comparable between
+ * commits.
+ */
+public final class BenchmarkData {
+
+    private static final LocalDate FIRST_JOINING_DATE = LocalDate.of(2000, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    public static List<Employee> employees(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        Department[] departments = Department.values();
+        EmployeeStatus[] statuses = EmployeeStatus.values();
+
+        List<Employee> employees = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            employees.add(new Employee(
+                i,
+                "Employee " + i,
+                FIRST_JOINING_DATE.plusDays(random.nextInt(9000)),
+                statuses[random.nextInt(statuses.length)],
+                departments[random.nextInt(departments.length)],
+                (double) random.nextInt(20_000, 250_000),
+                i > 10 ? random.nextInt(1, Math.min(i, 1000)) : null,
+                0L
+            ));
+        }
+        return employees;
+    }
+
+    public static List<EmployeeResponse> responses(int size) {
+        return employees(size).stream()
+                .map(employee -> new EmployeeResponse(employee.getId(), employee.getName(), employee.getDateOfJoining(),
+                        employee.getStatus(), employee.getDepartment(), employee.getSalary(), employee.getManagerId(),
+                        employee.getVersion()))
+                .toList();
+    }
+
+    /**
+     * Boots the application without a web server against a private in-memory database
+     * holding {@code size} employees.
+     */
+    public static ConfigurableApplicationContext seededContext(String name, int size) {
+        return seededContext(name, size, WebApplicationType.NONE);
+    }
+
+    /**
+     * As {@link #seededContext(String, int)}, with the given web stack on a random port,
+     * rate limiting off and any further {@code --property=value} arguments.
+     */
+    public static ConfigurableApplicationContext seededContext(String name, int size, WebApplicationType webType,
+            String... args) {
+        List<String> arguments = new ArrayList<>(List.of("--spring.datasource.url=jdbc:h2:mem:" + name + "-" + size,
+                "--spring.jpa.show-sql=false",
+                "--server.port=0",
+                "--employee.rate-limit.enabled=false",
+                "--logging.level.root=WARN"));
+        arguments.addAll(List.of(args));
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeMicroserviceApplication.class)
+                .web(webType)
+                .run(arguments.toArray(String[]::new));
+
+        context.getBean(JdbcTemplate.class).update(
+                "INSERT INTO employees (id, name, date_of_joining, status, department, salary, manager_id) "
+                + "SELECT X, CONCAT('Employee ', X), DATEADD('DAY', MOD(X * 7919, 9000), DATE '2000-01-01'), "
+                + "CASE WHEN MOD(X, 3) = 0 THEN 'Not_Active' ELSE 'Active' END, "
+                + "CASE MOD(X, 5) WHEN 0 THEN 'HR' WHEN 1 THEN 'IT' WHEN 2 THEN 'Finance' "
+                + "WHEN 3 THEN 'Sales' ELSE 'Marketing' END, "
+                + "20000 + MOD(X * 104729, 230000), CASE WHEN X > 10 THEN MOD(X, 10) + 1 END "
+                + "FROM SYSTEM_RANGE(1, ?)", size);
+        return context;
+    }
+}
@@ -0,0 +1,82 @@
+package experton.ai.employee.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Creating {@code count} employees with one {@code POST /api/v1/employees:batch} against
+ * {@code count} single {@code POST /api/v1/employees}, through the full Spring MVC pipeline
+ * (MockMvc). Each operation creates the same employees, so the times compare directly.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeBatchBenchmark {
+
+    @Param({ "10", "100", "500" })
+    private int count;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private List<String> singleBodies;
+    private String batchBody;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("batch-benchmark", 0, WebApplicationType.SERVLET);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+
+        singleBodies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            singleBodies.add("{\"name\": \"Created " + i + "\", \"dateOfJoining\": \"2021-03-01\", "
+                    + "\"status\": \"Active\", \"department\": \"IT\", \"salary\": " + (1000 + i) + "}");
+        }
+        batchBody = "[" + String.join(",", singleBodies) + "]";
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void singlePosts(Blackhole blackhole) throws Exception {
+        for (String body : singleBodies) {
+            blackhole.consume(mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+                    .content(body)).andReturn());
+        }
+    }
+
+    @Benchmark
+    public MvcResult batchPost() throws Exception {
+        return mockMvc.perform(post("/api/v1/employees:batch").contentType(MediaType.APPLICATION_JSON)
+                .content(batchBody)).andReturn();
+    }
+}
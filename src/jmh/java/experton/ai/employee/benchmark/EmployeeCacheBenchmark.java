@@ -0,0 +1,65 @@
+package experton.ai.employee.benchmark;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.service.EmployeeService;
+
+/**
+ * {@link EmployeeService#getEmployeeById} with the lookup cache on and off. Ids are drawn
+ * uniformly from the first {@code keys} employees: 1000 keys fit in the default cache of
+ * 10000 entries, 100000 keys mostly miss it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeCacheBenchmark {
+
+    private static final int SIZE = 100_000;
+
+    @Param({ "true", "false" })
+    private boolean cache;
+
+    @Param({ "1000", "100000" })
+    private int keys;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("cache-benchmark", SIZE, WebApplicationType.NONE,
+                "--employee.cache.enabled=" + cache);
+        employeeService = context.getBean(EmployeeService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Optional<EmployeeResponse> getEmployeeById() {
+        return employeeService.getEmployeeById(ThreadLocalRandom.current().nextInt(1, keys + 1));
+    }
+}
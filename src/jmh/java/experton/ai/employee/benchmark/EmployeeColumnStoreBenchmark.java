@@ -0,0 +1,138 @@
+package experton.ai.employee.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.analytics.EmployeeColumns;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.repository.EmployeeSpecifications;
+
+/**
+ * Analytical reads from {@link EmployeeColumns} against the same reads over
+ * {@code findAll()} entities. Setup prints the heap retained by each representation of the
+ * table. The entity scans only total headcount, salary and tenure per department, less work
+ * than the column breakdown, which also groups by joining year.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeColumnStoreBenchmark {
+
+    @Param({ "100000", "1000000" })
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeRepository employeeRepository;
+    private EmployeeColumns columns;
+    private List<Employee> entities;
+    private final EmployeeFilter noFilter = new EmployeeFilter();
+    private final EmployeeFilter itSince2010 = new EmployeeFilter();
+    private final LocalDate today = LocalDate.now();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("column-store-benchmark", size);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+        EmployeeColumnStore columnStore = context.getBean(EmployeeColumnStore.class);
+        itSince2010.setDepartment(Department.IT);
+        itSince2010.setJoinedFrom(LocalDate.of(2010, 1, 1));
+
+        long before = usedHeap();
+        columns = columnStore.load();
+        long columnBytes = usedHeap() - before;
+        before = usedHeap();
+        entities = employeeRepository.findAll();
+        long entityBytes = usedHeap() - before;
+        System.out.printf("%n%d rows: columns %,d bytes (estimated %,d), findAll() %,d bytes%n", size, columnBytes,
+                columns.estimatedBytes(), entityBytes);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EmployeeBreakdownResponse breakdownFromColumns() {
+        return columns.breakdown(noFilter, today);
+    }
+
+    @Benchmark
+    public EmployeeBreakdownResponse filteredBreakdownFromColumns() {
+        return columns.breakdown(itSince2010, today);
+    }
+
+    @Benchmark
+    public double[] departmentTotalsFromEntities() {
+        return departmentTotals(entities);
+    }
+
+    @Benchmark
+    public double[] departmentTotalsFromFindAll() {
+        return departmentTotals(employeeRepository.findAll());
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> sortedBySalaryFromColumns() {
+        return columns.select(noFilter, "desc");
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> sortedBySalaryFromDatabase() {
+        return employeeRepository.findResponses(EmployeeSpecifications.matches(noFilter),
+                Sort.by(Sort.Direction.DESC, "salary", "id"), 0, null);
+    }
+
+    private double[] departmentTotals(List<Employee> employees) {
+        int departments = Department.values().length;
+        double[] totals = new double[departments * 3];
+        long todayDay = today.toEpochDay();
+        for (Employee employee : employees) {
+            if (employee.getDepartment() == null) {
+                continue;
+            }
+            int d = employee.getDepartment().ordinal() * 3;
+            totals[d]++;
+            if (employee.getSalary() != null) {
+                totals[d + 1] += employee.getSalary();
+            }
+            if (employee.getDateOfJoining() != null) {
+                totals[d + 2] += todayDay - employee.getDateOfJoining().toEpochDay();
+            }
+        }
+        return totals;
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,87 @@
+package experton.ai.employee.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * Throughput of rejected requests next to accepted ones of the same shape, through the full
+ * Spring MVC pipeline (MockMvc): a missing id against an existing one, an invalid sort
+ * against a valid one-row page, and a body with an invalid enum value. With the cache off,
+ * both lookups go to the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeErrorPathBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({ "true", "false" })
+    private boolean cache;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("error-path-benchmark", SIZE, WebApplicationType.SERVLET,
+                "--employee.cache.enabled=" + cache);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getExisting() throws Exception {
+        return mockMvc.perform(get("/api/v1/employees/1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult getMissing() throws Exception {
+        return mockMvc.perform(get("/api/v1/employees/" + (SIZE + 1))).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listFirstPage() throws Exception {
+        return mockMvc.perform(get("/api/v1/employees").param("sort", "asc").param("size", "1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult listWithInvalidSort() throws Exception {
+        return mockMvc.perform(get("/api/v1/employees").param("sort", "sideways").param("size", "1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult patchWithInvalidStatus() throws Exception {
+        return mockMvc.perform(patch("/api/v1/employees/1").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"status\": \"Retired\"}")).andReturn();
+    }
+}
@@ -0,0 +1,89 @@
+package experton.ai.employee.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import experton.ai.employee.config.JacksonConfig;
+import experton.ai.employee.dto.EmployeeResponse;
+
+/**
+ * Encodes and decodes a list response in each representation the API negotiates: JSON or
+ * Smile, with or without gzip. The payload size of every combination is printed during
+ * setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeFormatBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int size;
+
+    @Param({ "json", "smile" })
+    private String format;
+
+    @Param({ "false", "true" })
+    private boolean gzip;
+
+    private ObjectMapper objectMapper;
+    private ObjectReader reader;
+    private List<EmployeeResponse> responses;
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws IOException {
+        JacksonConfig config = new JacksonConfig();
+        objectMapper = format.equals("smile")
+                ? config.smileHttpMessageConverter(Jackson2ObjectMapperBuilder.json()).getObjectMapper()
+                : config.objectMapper(Jackson2ObjectMapperBuilder.json());
+        reader = objectMapper.readerForListOf(EmployeeResponse.class);
+        responses = BenchmarkData.responses(size);
+        payload = encode();
+        System.out.printf("%n%s%s, %d rows: %d bytes%n", format, gzip ? "+gzip" : "", size, payload.length);
+    }
+
+    @Benchmark
+    public byte[] encode() throws IOException {
+        if (!gzip) {
+            return objectMapper.writeValueAsBytes(responses);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            objectMapper.writeValue(out, responses);
+        }
+        return bytes.toByteArray();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> decode() throws IOException {
+        try (InputStream in = gzip ? new GZIPInputStream(new ByteArrayInputStream(payload))
+                : new ByteArrayInputStream(payload)) {
+            return reader.readValue(in);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package experton.ai.employee.benchmark;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import experton.ai.employee.metrics.RequestProfileFilter;
+
+/**
+ * Cost of request profiling on a single-row read and a one-field update through the full
+ * Spring MVC pipeline (MockMvc). The threshold is out of reach, so the profiled requests pay
+ * for the profile and the header but not for the log line. With the cache off, the read
+ * goes to the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeProfilingBenchmark {
+
+    private static final int SIZE = 1000;
+
+    @Param({ "false", "true" })
+    private boolean profiling;
+
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private int salary;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("profiling-benchmark", SIZE, WebApplicationType.SERVLET,
+                "--employee.cache.enabled=false", "--employee.profiling.enabled=" + profiling,
+                "--employee.profiling.slow-request-threshold-ms=60000");
+        // Unlike MockMvc in tests, a plain webAppContextSetup does not pick up filter beans
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context)
+                .addFilters(context.getBeansOfType(RequestProfileFilter.class).values()
+                        .toArray(RequestProfileFilter[]::new))
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MvcResult getExisting() throws Exception {
+        return mockMvc.perform(get("/api/v1/employees/1")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult patchSalary() throws Exception {
+        return mockMvc.perform(patch("/api/v1/employees/2").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": " + (1000 + salary++ % 1000) + "}")).andReturn();
+    }
+}
@@ -0,0 +1,118 @@
+package experton.ai.employee.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.analytics.EmployeeColumns;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.dto.SalaryStatsResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.service.EmployeeService;
+import experton.ai.employee.service.EmployeeStatsService;
+
+/**
+ * Top earners and salary percentiles: the full salary-sorted list cut to its first rows,
+ * against {@code ORDER BY ... LIMIT} in the database and bounded-heap selection over the
+ * column store. The context runs without the replica, so the service methods read the
+ * database; the column benchmarks use columns loaded in setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class EmployeeSalaryRankingBenchmark {
+
+    private static final int TOP = 10;
+    private static final double[] PERCENTILES = { 0.5, 0.9, 0.99 };
+
+    @Param({ "100000", "1000000" })
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeStatsService statsService;
+    private JdbcTemplate jdbcTemplate;
+    private EmployeeColumns columns;
+    private final EmployeeFilter noFilter = new EmployeeFilter();
+    private final EmployeeFilter it = new EmployeeFilter();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("ranking-benchmark", size);
+        employeeService = context.getBean(EmployeeService.class);
+        statsService = context.getBean(EmployeeStatsService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        columns = context.getBean(EmployeeColumnStore.class).load();
+        it.setDepartment(Department.IT);
+    }
+
+    /**
+     * H2 hands back the previous result of a repeated query while the table is unchanged, so
+     * every call follows a one-row write.
+     */
+    @Setup(Level.Invocation)
+    public void touchTable() {
+        jdbcTemplate.update("UPDATE employees SET version = version + 1 WHERE id = 1");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> topFromFullSort() {
+        return employeeService.getAllEmployees("desc", noFilter).subList(0, TOP);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> topFromDatabase() {
+        return statsService.getTopSalaries(noFilter, TOP, "desc");
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> topInDepartmentFromDatabase() {
+        return statsService.getTopSalaries(it, TOP, "desc");
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> topFromColumns() {
+        return columns.top(noFilter, TOP, true);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> topInDepartmentFromColumns() {
+        return columns.top(it, TOP, true);
+    }
+
+    @Benchmark
+    public List<SalaryPercentilesResponse> percentilesFromColumns() {
+        return columns.percentiles(noFilter, PERCENTILES);
+    }
+
+    @Benchmark
+    public List<SalaryStatsResponse> percentilesFromDatabase() {
+        return statsService.getSalaryStats();
+    }
+}
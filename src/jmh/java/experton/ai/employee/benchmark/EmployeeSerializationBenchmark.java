@@ -0,0 +1,61 @@
+package experton.ai.employee.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import experton.ai.employee.config.JacksonConfig;
+import experton.ai.employee.dto.EmployeeResponse;
+
+/**
+ * Serializes a list response with the same {@link ObjectMapper} configuration the web layer
+ * uses, next to a mapper that falls back to Jackson's reflective bean serializer. That both
+ * write the same bytes is checked by {@code EmployeeSerializationTests}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeSerializationBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private ObjectMapper reflectiveMapper;
+    private List<EmployeeResponse> responses;
+
+    @Setup
+    public void setUp() {
+        objectMapper = new JacksonConfig().objectMapper(Jackson2ObjectMapperBuilder.json());
+        reflectiveMapper = Jackson2ObjectMapperBuilder.json().build().registerModule(new JavaTimeModule());
+        responses = BenchmarkData.responses(size);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] serializeListReflective() throws Exception {
+        return reflectiveMapper.writeValueAsBytes(responses);
+    }
+}
@@ -0,0 +1,69 @@
+package experton.ai.employee.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeePage;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.service.EmployeeService;
+
+/**
+ * End-to-end list reads through {@link EmployeeService} against H2, from full-table reads
+ * to single keyset pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeServiceBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private final EmployeeFilter noFilter = new EmployeeFilter();
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkData.seededContext("service-benchmark", size);
+        employeeService = context.getBean(EmployeeService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> getAllEmployees() {
+        return employeeService.getAllEmployees(null, noFilter);
+    }
+
+    @Benchmark
+    public List<EmployeeResponse> getAllEmployeesSortedBySalary() {
+        return employeeService.getAllEmployees("desc", noFilter);
+    }
+
+    @Benchmark
+    public EmployeePage getFirstSalaryPage() {
+        return employeeService.getEmployeesPage("desc", noFilter, 50, null, null);
+    }
+}
@@ -0,0 +1,63 @@
+package experton.ai.employee.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import experton.ai.employee.benchmark.BenchmarkData;
+import experton.ai.employee.model.Employee;
+
+/**
+ * Entity-to-DTO mapping and create-time validation over a whole data set, without the
+ * database. Lives in the service package to reach the package-private hooks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+public class EmployeeMappingBenchmark {
+
+    @Param({ "1000", "10000", "100000", "1000000" })
+    private int size;
+
+    private final EmployeeService employeeService = new EmployeeService();
+    private List<Employee> employees;
+    private Set<Integer> existingIds;
+
+    @Setup
+    public void setUp() {
+        employees = BenchmarkData.employees(size);
+        existingIds = new HashSet<>();
+        employees.forEach(employee -> existingIds.add(employee.getId()));
+    }
+
+    @Benchmark
+    public void convertToEmployeeResponse(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employeeService.convertToEmployeeResponse(employee));
+        }
+    }
+
+    @Benchmark
+    public void validateEmployee(Blackhole blackhole) {
+        for (Employee employee : employees) {
+            blackhole.consume(employeeService.validateEmployee(employee, existingIds::contains));
+        }
+    }
+}
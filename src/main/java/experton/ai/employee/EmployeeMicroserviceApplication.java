@@ -2,8 +2,12 @@ package experton.ai.employee;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import experton.ai.employee.config.EmployeeRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(EmployeeRuntimeHints.class)
 public class EmployeeMicroserviceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,195 @@
+package experton.ai.employee.analytics;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.enums.ChangeType;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.event.EmployeeChangedEvent;
+
+/**
+ * Optional in-process read replica of the employees table in {@link EmployeeColumns}. It is
+ * loaded when the context starts and then follows committed {@link EmployeeChangedEvent}s,
+ * so a writer reads its own change as soon as its request returns. After-commit listeners
+ * may run out of commit order: an update older than the stored row's version is ignored,
+ * and deleted ids are remembered for a minute so a late update cannot bring them back.
+ *
+ * <p>While disabled, or until the load completes, {@link #isAvailable()} is false and
+ * callers read from the database instead.
+ */
+@Component
+public class EmployeeColumnStore implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeColumnStore.class);
+
+    private static final String LOAD_SQL = "SELECT id, name, date_of_joining, status, department, salary, "
+            + "manager_id, version FROM employees";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Cache<Integer, Boolean> deletedIds = Caffeine.newBuilder()
+            .expireAfterWrite(Duration.ofMinutes(1))
+            .build();
+    private EmployeeColumns columns;
+    private volatile boolean running;
+
+    public EmployeeColumnStore(@Value("${employee.analytics.enabled:false}") boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public void start() {
+        reload();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Whether reads can be served from the replica.
+     */
+    public boolean isAvailable() {
+        return running;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            // Until the load runs there is nothing to update; the load will see the change
+            if (columns == null) {
+                return;
+            }
+            if (event.getType() == ChangeType.DELETED) {
+                deletedIds.put(event.getId(), Boolean.TRUE);
+                columns.remove(event.getId());
+            } else if (deletedIds.getIfPresent(event.getId()) == null) {
+                columns.put(event.getEmployee());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The matching employees, ordered as {@code GET /api/v1/employees} orders them.
+     */
+    public List<EmployeeResponse> findResponses(EmployeeFilter filter, String sortOrder) {
+        lock.readLock().lock();
+        try {
+            return columns.select(filter, sortOrder);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public EmployeeBreakdownResponse breakdown(EmployeeFilter filter) {
+        lock.readLock().lock();
+        try {
+            return columns.breakdown(filter, LocalDate.now());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * The {@code limit} matching employees with the highest (or lowest) salary.
+     */
+    public List<EmployeeResponse> top(EmployeeFilter filter, int limit, boolean highest) {
+        lock.readLock().lock();
+        try {
+            return columns.top(filter, limit, highest);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<SalaryPercentilesResponse> percentiles(EmployeeFilter filter, double[] percentiles) {
+        lock.readLock().lock();
+        try {
+            return columns.percentiles(filter, percentiles);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the replica with a fresh read of the table, for rows written around
+     * {@code EmployeeService} such as bulk SQL loads. Does nothing while disabled.
+     */
+    public void reload() {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            long started = System.nanoTime();
+            columns = load();
+            log.info("Loaded {} employees into the column store in {} ms (~{} KB)", columns.size(),
+                    Duration.ofNanos(System.nanoTime() - started).toMillis(), columns.estimatedBytes() / 1024);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        running = true;
+    }
+
+    /**
+     * Reads the table straight into new columns, without entities or boxed values.
+     */
+    public EmployeeColumns load() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class);
+        EmployeeColumns loaded = new EmployeeColumns(count != null ? count : 0);
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            LocalDate dateOfJoining = rs.getObject(3, LocalDate.class);
+            String status = rs.getString(4);
+            String department = rs.getString(5);
+            double salary = rs.getDouble(6);
+            if (rs.wasNull()) {
+                salary = Double.NaN;
+            }
+            int managerId = rs.getInt(7);
+            if (rs.wasNull()) {
+                managerId = EmployeeColumns.NONE;
+            }
+            loaded.put(rs.getInt(1), rs.getString(2),
+                    dateOfJoining != null ? (int) dateOfJoining.toEpochDay() : EmployeeColumns.NONE,
+                    EmployeeColumns.ordinal(status != null ? EmployeeStatus.valueOf(status) : null),
+                    EmployeeColumns.ordinal(department != null ? Department.valueOf(department) : null),
+                    salary, managerId, rs.getLong(8));
+        });
+        return loaded;
+    }
+}
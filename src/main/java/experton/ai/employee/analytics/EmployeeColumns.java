@@ -0,0 +1,674 @@
+package experton.ai.employee.analytics;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.IntStream;
+
+import experton.ai.employee.dto.DepartmentBreakdown;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.JoiningYearBreakdown;
+import experton.ai.employee.dto.SalaryPercentile;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.enums.SortOrder;
+
+/**
+ * The employees table held column by column in primitive arrays: one slot per row in each
+ * column, enums as ordinals, dates as epoch days, and sentinels instead of nulls. Filters
+ * and aggregates scan the columns without allocating per row; only the rows a read returns
+ * become {@link EmployeeResponse}s. Rows are unordered, so the id and salary orders are
+ * built on the first sorted read after a change.
+ *
+ * <p>Not thread-safe: {@link EmployeeColumnStore} serializes writes against reads.
+ */
+public final class EmployeeColumns {
+
+    /** Missing manager id or joining date. */
+    static final int NONE = Integer.MIN_VALUE;
+
+    /** Missing status or department. */
+    static final byte NO_ORDINAL = -1;
+
+    private static final Department[] DEPARTMENTS = Department.values();
+    private static final EmployeeStatus[] STATUSES = EmployeeStatus.values();
+
+    private int size;
+    private int[] ids;
+    private String[] names;
+    private int[] joinedDays;
+    private short[] joinedYears;
+    private byte[] statuses;
+    private byte[] departments;
+    private double[] salaries;
+    private int[] managerIds;
+    private long[] versions;
+    private final RowIndex rowIndex;
+
+    private volatile int[] idOrder;
+    private volatile int[] salaryOrder;
+
+    public EmployeeColumns(int capacity) {
+        capacity = Math.max(capacity, 16);
+        ids = new int[capacity];
+        names = new String[capacity];
+        joinedDays = new int[capacity];
+        joinedYears = new short[capacity];
+        statuses = new byte[capacity];
+        departments = new byte[capacity];
+        salaries = new double[capacity];
+        managerIds = new int[capacity];
+        versions = new long[capacity];
+        rowIndex = new RowIndex(capacity);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Inserts or replaces the row of {@code employee}, unless the stored row has a newer
+     * version. Returns whether the row was written.
+     */
+    public boolean put(EmployeeResponse employee) {
+        return put(employee.getId(), employee.getName(),
+                employee.getDateOfJoining() != null ? (int) employee.getDateOfJoining().toEpochDay() : NONE,
+                ordinal(employee.getStatus()), ordinal(employee.getDepartment()),
+                employee.getSalary() != null ? employee.getSalary() : Double.NaN,
+                employee.getManagerId() != null ? employee.getManagerId() : NONE,
+                employee.getVersion() != null ? employee.getVersion() : 0);
+    }
+
+    boolean put(int id, String name, int joinedDay, byte status, byte department, double salary, int managerId,
+            long version) {
+        int row = rowIndex.get(id);
+        if (row >= 0 && versions[row] > version) {
+            return false;
+        }
+        if (row < 0) {
+            ensureCapacity(size + 1);
+            row = size++;
+            rowIndex.put(id, row);
+        }
+        ids[row] = id;
+        names[row] = name;
+        joinedDays[row] = joinedDay;
+        joinedYears[row] = joinedDay != NONE ? (short) LocalDate.ofEpochDay(joinedDay).getYear() : 0;
+        statuses[row] = status;
+        departments[row] = department;
+        salaries[row] = salary;
+        managerIds[row] = managerId;
+        versions[row] = version;
+        invalidateOrders();
+        return true;
+    }
+
+    /**
+     * Removes the row of {@code id} by moving the last row into its place.
+     */
+    public boolean remove(int id) {
+        int row = rowIndex.get(id);
+        if (row < 0) {
+            return false;
+        }
+        rowIndex.remove(id);
+        int last = --size;
+        if (row != last) {
+            ids[row] = ids[last];
+            names[row] = names[last];
+            joinedDays[row] = joinedDays[last];
+            joinedYears[row] = joinedYears[last];
+            statuses[row] = statuses[last];
+            departments[row] = departments[last];
+            salaries[row] = salaries[last];
+            managerIds[row] = managerIds[last];
+            versions[row] = versions[last];
+            rowIndex.put(ids[row], row);
+        }
+        names[last] = null;
+        invalidateOrders();
+        return true;
+    }
+
+    /**
+     * The matching employees in the order the list endpoint uses: by id without a sort
+     * order, otherwise by {@code (salary, id)} with missing salaries lowest.
+     */
+    public List<EmployeeResponse> select(EmployeeFilter filter, String sortOrder) {
+        Criteria criteria = Criteria.of(filter);
+        int[] order = sortOrder != null ? salaryOrder() : idOrder();
+        boolean descending = SortOrder.DESC.name().equalsIgnoreCase(sortOrder);
+
+        List<EmployeeResponse> employees = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            int row = order[descending ? size - 1 - i : i];
+            if (matches(criteria, row)) {
+                employees.add(toResponse(row));
+            }
+        }
+        return employees;
+    }
+
+    /**
+     * Headcount and salary of the matching employees by department and joining year, in one
+     * pass over the columns.
+     */
+    public EmployeeBreakdownResponse breakdown(EmployeeFilter filter, LocalDate today) {
+        Criteria criteria = Criteria.of(filter);
+        int todayDay = (int) today.toEpochDay();
+
+        int firstYear = Integer.MAX_VALUE;
+        int lastYear = Integer.MIN_VALUE;
+        for (int row = 0; row < size; row++) {
+            if (joinedDays[row] != NONE) {
+                firstYear = Math.min(firstYear, joinedYears[row]);
+                lastYear = Math.max(lastYear, joinedYears[row]);
+            }
+        }
+        int years = Math.max(lastYear - firstYear + 1, 0);
+
+        Totals total = new Totals(1);
+        Totals byDepartment = new Totals(DEPARTMENTS.length);
+        Totals byYear = new Totals(years);
+        long[] tenureDays = new long[DEPARTMENTS.length];
+        long[] tenureCount = new long[DEPARTMENTS.length];
+
+        for (int row = 0; row < size; row++) {
+            if (!matches(criteria, row)) {
+                continue;
+            }
+            double salary = salaries[row];
+            total.add(0, salary);
+            int department = departments[row];
+            if (department != NO_ORDINAL) {
+                byDepartment.add(department, salary);
+                if (joinedDays[row] != NONE) {
+                    tenureDays[department] += todayDay - joinedDays[row];
+                    tenureCount[department]++;
+                }
+            }
+            if (joinedDays[row] != NONE) {
+                byYear.add(joinedYears[row] - firstYear, salary);
+            }
+        }
+
+        List<DepartmentBreakdown> departmentRows = new ArrayList<>();
+        for (int d = 0; d < DEPARTMENTS.length; d++) {
+            if (byDepartment.headcount[d] > 0) {
+                departmentRows.add(new DepartmentBreakdown(DEPARTMENTS[d], byDepartment.headcount[d],
+                        byDepartment.total(d), byDepartment.min(d), byDepartment.max(d), byDepartment.mean(d),
+                        tenureCount[d] > 0 ? (double) tenureDays[d] / tenureCount[d] : null));
+            }
+        }
+        List<JoiningYearBreakdown> yearRows = new ArrayList<>();
+        for (int y = 0; y < years; y++) {
+            if (byYear.headcount[y] > 0) {
+                yearRows.add(new JoiningYearBreakdown(firstYear + y, byYear.headcount[y], byYear.mean(y)));
+            }
+        }
+        return new EmployeeBreakdownResponse(total.headcount[0], total.total(0), total.mean(0), departmentRows,
+                yearRows);
+    }
+
+    /**
+     * The {@code limit} matching employees with the highest (or lowest) salary, ordered by
+     * {@code (salary, id)} in that direction. Employees without a salary are left out. Row
+     * ranges are searched in parallel on the common fork-join pool, each keeping a bounded
+     * heap of its best rows, and the heaps are merged pairwise.
+     */
+    public List<EmployeeResponse> top(EmployeeFilter filter, int limit, boolean highest) {
+        RowHeap heap = ForkJoinPool.commonPool().invoke(new TopTask(Criteria.of(filter), limit, highest, 0, size));
+        int[] rows = heap.drain();
+        List<EmployeeResponse> employees = new ArrayList<>(rows.length);
+        for (int i = rows.length - 1; i >= 0; i--) {
+            employees.add(toResponse(rows[i]));
+        }
+        return employees;
+    }
+
+    /**
+     * Salary percentiles of the matching employees, overall and per department, interpolated
+     * like SQL {@code PERCENTILE_CONT}. Each group's salaries are copied to a primitive array
+     * and the groups are searched in parallel by selection, in linear time, without sorting.
+     */
+    public List<SalaryPercentilesResponse> percentiles(EmployeeFilter filter, double[] percentiles) {
+        Criteria criteria = Criteria.of(filter);
+        int[] counts = new int[DEPARTMENTS.length + 1];
+        for (int row = 0; row < size; row++) {
+            if (!Double.isNaN(salaries[row]) && matches(criteria, row)) {
+                counts[0]++;
+                if (departments[row] != NO_ORDINAL) {
+                    counts[departments[row] + 1]++;
+                }
+            }
+        }
+
+        double[][] groups = new double[counts.length][];
+        for (int g = 0; g < counts.length; g++) {
+            groups[g] = new double[counts[g]];
+            counts[g] = 0;
+        }
+        for (int row = 0; row < size; row++) {
+            if (!Double.isNaN(salaries[row]) && matches(criteria, row)) {
+                groups[0][counts[0]++] = salaries[row];
+                if (departments[row] != NO_ORDINAL) {
+                    int g = departments[row] + 1;
+                    groups[g][counts[g]++] = salaries[row];
+                }
+            }
+        }
+
+        Double[][] values = new Double[groups.length][];
+        IntStream.range(0, groups.length).parallel().forEach(g -> values[g] = select(groups[g], percentiles));
+
+        List<SalaryPercentilesResponse> responses = new ArrayList<>();
+        for (int g = 0; g < groups.length; g++) {
+            if (g > 0 && groups[g].length == 0) {
+                continue;
+            }
+            List<SalaryPercentile> group = new ArrayList<>(percentiles.length);
+            for (int p = 0; p < percentiles.length; p++) {
+                group.add(new SalaryPercentile(percentiles[p], values[g][p]));
+            }
+            responses.add(new SalaryPercentilesResponse(g > 0 ? DEPARTMENTS[g - 1] : null, groups[g].length, group));
+        }
+        return responses;
+    }
+
+    /**
+     * The percentiles of {@code values}, reordering it. Ranks are visited in ascending order
+     * and each quickselect only searches above the previous rank; the upper neighbour of a
+     * fractional rank is the smallest value above it.
+     */
+    private static Double[] select(double[] values, double[] percentiles) {
+        Double[] selected = new Double[percentiles.length];
+        if (values.length == 0) {
+            return selected;
+        }
+        int[] ascending = IntStream.range(0, percentiles.length).boxed()
+                .sorted(Comparator.comparingDouble(p -> percentiles[p]))
+                .mapToInt(Integer::intValue)
+                .toArray();
+        int from = 0;
+        for (int p : ascending) {
+            double position = percentiles[p] * (values.length - 1);
+            int lower = (int) position;
+            quickselect(values, from, values.length - 1, lower);
+            double value = values[lower];
+            if (position > lower) {
+                double upper = Double.POSITIVE_INFINITY;
+                for (int i = lower + 1; i < values.length; i++) {
+                    upper = Math.min(upper, values[i]);
+                }
+                value += (upper - value) * (position - lower);
+            }
+            selected[p] = value;
+            from = lower;
+        }
+        return selected;
+    }
+
+    /**
+     * Moves the {@code k}-th smallest value of {@code values[left..right]} to index {@code k},
+     * with smaller values before it and larger ones after.
+     */
+    private static void quickselect(double[] values, int left, int right, int k) {
+        while (left < right) {
+            int middle = (left + right) >>> 1;
+            double pivot = Math.max(Math.min(values[left], values[middle]),
+                    Math.min(Math.max(values[left], values[middle]), values[right]));
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+                while (values[j] > pivot) {
+                    j--;
+                }
+                if (i <= j) {
+                    double swap = values[i];
+                    values[i++] = values[j];
+                    values[j--] = swap;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Approximate heap held by the columns and index, names included.
+     */
+    public long estimatedBytes() {
+        long bytes = (long) ids.length * (Integer.BYTES * 3 + Short.BYTES + 2 + Double.BYTES + Long.BYTES + 4)
+                + rowIndex.estimatedBytes();
+        for (int row = 0; row < size; row++) {
+            // String header plus its byte[] header and Latin-1 contents
+            bytes += names[row] != null ? 24 + 16 + names[row].length() : 0;
+        }
+        return bytes;
+    }
+
+    private boolean matches(Criteria criteria, int row) {
+        if (criteria.department != NO_ORDINAL && departments[row] != criteria.department) {
+            return false;
+        }
+        if (criteria.status != NO_ORDINAL && statuses[row] != criteria.status) {
+            return false;
+        }
+        if (criteria.dateBounded) {
+            int day = joinedDays[row];
+            if (day == NONE || day < criteria.joinedFrom || day > criteria.joinedTo) {
+                return false;
+            }
+        }
+        // NaN, a missing salary, fails both comparisons
+        if (criteria.salaryBounded && !(salaries[row] >= criteria.minSalary && salaries[row] <= criteria.maxSalary)) {
+            return false;
+        }
+        return criteria.name == null || names[row] != null && names[row].startsWith(criteria.name);
+    }
+
+    private EmployeeResponse toResponse(int row) {
+        return new EmployeeResponse(ids[row], names[row],
+                joinedDays[row] != NONE ? LocalDate.ofEpochDay(joinedDays[row]) : null,
+                statuses[row] != NO_ORDINAL ? STATUSES[statuses[row]] : null,
+                departments[row] != NO_ORDINAL ? DEPARTMENTS[departments[row]] : null,
+                Double.isNaN(salaries[row]) ? null : salaries[row],
+                managerIds[row] != NONE ? managerIds[row] : null,
+                versions[row]);
+    }
+
+    private int[] idOrder() {
+        int[] order = idOrder;
+        if (order == null) {
+            long[] keys = new long[size];
+            for (int row = 0; row < size; row++) {
+                keys[row] = (long) ids[row] << 32 | row;
+            }
+            idOrder = order = rowsOf(keys);
+        }
+        return order;
+    }
+
+    /**
+     * Rows by {@code (salary, id)}: each row is keyed by the rank of its salary among the
+     * sorted salaries and its position in id order, so one primitive sort settles both.
+     */
+    private int[] salaryOrder() {
+        int[] order = salaryOrder;
+        if (order == null) {
+            int[] byId = idOrder();
+            long[] sorted = new long[size];
+            for (int row = 0; row < size; row++) {
+                sorted[row] = salaryKey(salaries[row]);
+            }
+            Arrays.sort(sorted);
+
+            long[] keys = new long[size];
+            for (int position = 0; position < size; position++) {
+                long rank = Arrays.binarySearch(sorted, salaryKey(salaries[byId[position]]));
+                keys[position] = rank << 32 | position;
+            }
+            Arrays.sort(keys);
+            order = new int[size];
+            for (int i = 0; i < size; i++) {
+                order[i] = byId[(int) keys[i]];
+            }
+            salaryOrder = order;
+        }
+        return order;
+    }
+
+    /**
+     * A long that sorts like the salary, with a missing salary below every other.
+     */
+    private static long salaryKey(double salary) {
+        if (Double.isNaN(salary)) {
+            return Long.MIN_VALUE;
+        }
+        long bits = Double.doubleToLongBits(salary + 0.0);
+        return bits ^ (bits >> 63 & Long.MAX_VALUE);
+    }
+
+    private static int[] rowsOf(long[] keys) {
+        Arrays.sort(keys);
+        int[] rows = new int[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            rows[i] = (int) keys[i];
+        }
+        return rows;
+    }
+
+    private void invalidateOrders() {
+        idOrder = null;
+        salaryOrder = null;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= ids.length) {
+            return;
+        }
+        int grown = Math.max(capacity, ids.length + (ids.length >> 1));
+        ids = Arrays.copyOf(ids, grown);
+        names = Arrays.copyOf(names, grown);
+        joinedDays = Arrays.copyOf(joinedDays, grown);
+        joinedYears = Arrays.copyOf(joinedYears, grown);
+        statuses = Arrays.copyOf(statuses, grown);
+        departments = Arrays.copyOf(departments, grown);
+        salaries = Arrays.copyOf(salaries, grown);
+        managerIds = Arrays.copyOf(managerIds, grown);
+        versions = Arrays.copyOf(versions, grown);
+    }
+
+    static byte ordinal(Enum<?> value) {
+        return value != null ? (byte) value.ordinal() : NO_ORDINAL;
+    }
+
+    /**
+     * Searches {@code [from, to)} for the best {@code limit} rows, splitting large ranges.
+     */
+    private final class TopTask extends RecursiveTask<RowHeap> {
+
+        private static final int SPLIT_ROWS = 1 << 16;
+
+        private final Criteria criteria;
+        private final int limit;
+        private final boolean highest;
+        private final int from;
+        private final int to;
+
+        private TopTask(Criteria criteria, int limit, boolean highest, int from, int to) {
+            this.criteria = criteria;
+            this.limit = limit;
+            this.highest = highest;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected RowHeap compute() {
+            if (to - from > SPLIT_ROWS) {
+                int middle = (from + to) >>> 1;
+                TopTask right = new TopTask(criteria, limit, highest, middle, to);
+                right.fork();
+                RowHeap heap = new TopTask(criteria, limit, highest, from, middle).compute();
+                heap.offerAll(right.join());
+                return heap;
+            }
+            RowHeap heap = new RowHeap(limit, highest);
+            for (int row = from; row < to; row++) {
+                if (!Double.isNaN(salaries[row]) && matches(criteria, row)) {
+                    heap.offer(row);
+                }
+            }
+            return heap;
+        }
+    }
+
+    /**
+     * Bounded binary heap of rows whose root is the worst row kept, so a better row replaces
+     * it in {@code O(log limit)}.
+     */
+    private final class RowHeap {
+
+        private final int[] rows;
+        private final boolean highest;
+        private int size;
+
+        private RowHeap(int limit, boolean highest) {
+            this.rows = new int[limit];
+            this.highest = highest;
+        }
+
+        private void offer(int row) {
+            if (size < rows.length) {
+                rows[size] = row;
+                siftUp(size++);
+            } else if (rows.length > 0 && worse(rows[0], row)) {
+                rows[0] = row;
+                siftDown(0);
+            }
+        }
+
+        private void offerAll(RowHeap other) {
+            for (int i = 0; i < other.size; i++) {
+                offer(other.rows[i]);
+            }
+        }
+
+        /**
+         * Empties the heap, worst row first.
+         */
+        private int[] drain() {
+            int[] drained = new int[size];
+            for (int i = 0; i < drained.length; i++) {
+                drained[i] = rows[0];
+                rows[0] = rows[--size];
+                siftDown(0);
+            }
+            return drained;
+        }
+
+        /**
+         * Whether row {@code a} ranks below row {@code b} in the requested direction.
+         */
+        private boolean worse(int a, int b) {
+            int order = salaries[a] != salaries[b] ? Double.compare(salaries[a], salaries[b])
+                    : Integer.compare(ids[a], ids[b]);
+            return highest ? order < 0 : order > 0;
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!worse(rows[index], rows[parent])) {
+                    return;
+                }
+                swap(index, parent);
+                index = parent;
+            }
+        }
+
+        private void siftDown(int index) {
+            while (true) {
+                int child = 2 * index + 1;
+                if (child >= size) {
+                    return;
+                }
+                if (child + 1 < size && worse(rows[child + 1], rows[child])) {
+                    child++;
+                }
+                if (!worse(rows[child], rows[index])) {
+                    return;
+                }
+                swap(index, child);
+                index = child;
+            }
+        }
+
+        private void swap(int a, int b) {
+            int row = rows[a];
+            rows[a] = rows[b];
+            rows[b] = row;
+        }
+    }
+
+    /**
+     * A filter reduced to primitive bounds, checked against the columns without unboxing.
+     */
+    private record Criteria(byte department, byte status, boolean dateBounded, int joinedFrom, int joinedTo,
+            boolean salaryBounded, double minSalary, double maxSalary, String name) {
+
+        static Criteria of(EmployeeFilter filter) {
+            return new Criteria(ordinal(filter.getDepartment()), ordinal(filter.getStatus()),
+                    filter.getJoinedFrom() != null || filter.getJoinedTo() != null,
+                    filter.getJoinedFrom() != null ? (int) filter.getJoinedFrom().toEpochDay() : Integer.MIN_VALUE,
+                    filter.getJoinedTo() != null ? (int) filter.getJoinedTo().toEpochDay() : Integer.MAX_VALUE,
+                    filter.getMinSalary() != null || filter.getMaxSalary() != null,
+                    filter.getMinSalary() != null ? filter.getMinSalary() : Double.NEGATIVE_INFINITY,
+                    filter.getMaxSalary() != null ? filter.getMaxSalary() : Double.POSITIVE_INFINITY,
+                    filter.getName());
+        }
+    }
+
+    /**
+     * Headcount and salary accumulators for a fixed number of groups.
+     */
+    private static final class Totals {
+        private final long[] headcount;
+        private final long[] salaried;
+        private final double[] total;
+        private final double[] min;
+        private final double[] max;
+
+        private Totals(int groups) {
+            headcount = new long[groups];
+            salaried = new long[groups];
+            total = new double[groups];
+            min = new double[groups];
+            max = new double[groups];
+            Arrays.fill(min, Double.POSITIVE_INFINITY);
+            Arrays.fill(max, Double.NEGATIVE_INFINITY);
+        }
+
+        private void add(int group, double salary) {
+            headcount[group]++;
+            if (!Double.isNaN(salary)) {
+                salaried[group]++;
+                total[group] += salary;
+                min[group] = Math.min(min[group], salary);
+                max[group] = Math.max(max[group], salary);
+            }
+        }
+
+        private Double total(int group) {
+            return salaried[group] > 0 ? total[group] : null;
+        }
+
+        private Double min(int group) {
+            return salaried[group] > 0 ? min[group] : null;
+        }
+
+        private Double max(int group) {
+            return salaried[group] > 0 ? max[group] : null;
+        }
+
+        private Double mean(int group) {
+            return salaried[group] > 0 ? total[group] / salaried[group] : null;
+        }
+    }
+}
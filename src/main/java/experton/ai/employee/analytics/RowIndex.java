@@ -0,0 +1,98 @@
+package experton.ai.employee.analytics;
+
+/**
+ * Open-addressing map from employee id to row number, with linear probing and no boxing.
+ * Employee ids are positive, so {@code 0} marks a free slot; removal shifts the following
+ * entries back instead of leaving tombstones.
+ */
+final class RowIndex {
+
+    private static final int FREE = 0;
+
+    private int[] keys;
+    private int[] rows;
+    private int mask;
+    private int size;
+
+    RowIndex(int expectedSize) {
+        int capacity = Integer.highestOneBit(Math.max(expectedSize, 8) * 2 - 1) << 1;
+        keys = new int[capacity];
+        rows = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    /**
+     * The row of {@code id}, or {@code -1}.
+     */
+    int get(int id) {
+        for (int slot = slot(id);; slot = (slot + 1) & mask) {
+            if (keys[slot] == id) {
+                return rows[slot];
+            }
+            if (keys[slot] == FREE) {
+                return -1;
+            }
+        }
+    }
+
+    void put(int id, int row) {
+        if (id <= 0) {
+            throw new IllegalArgumentException("Employee ids must be positive: " + id);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            resize(keys.length * 2);
+        }
+        int slot = slot(id);
+        while (keys[slot] != FREE && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        if (keys[slot] == FREE) {
+            keys[slot] = id;
+            size++;
+        }
+        rows[slot] = row;
+    }
+
+    void remove(int id) {
+        int gap = slot(id);
+        while (keys[gap] != id) {
+            if (keys[gap] == FREE) {
+                return;
+            }
+            gap = (gap + 1) & mask;
+        }
+        // Move back every entry of the probe run that the gap would otherwise hide
+        for (int next = (gap + 1) & mask; keys[next] != FREE; next = (next + 1) & mask) {
+            if (((next - slot(keys[next])) & mask) >= ((next - gap) & mask)) {
+                keys[gap] = keys[next];
+                rows[gap] = rows[next];
+                gap = next;
+            }
+        }
+        keys[gap] = FREE;
+        size--;
+    }
+
+    long estimatedBytes() {
+        return 2L * keys.length * Integer.BYTES;
+    }
+
+    private int slot(int id) {
+        int hash = id * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldRows = rows;
+        keys = new int[capacity];
+        rows = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != FREE) {
+                put(oldKeys[i], oldRows[i]);
+            }
+        }
+    }
+}
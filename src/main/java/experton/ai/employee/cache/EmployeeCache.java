@@ -0,0 +1,74 @@
+package experton.ai.employee.cache;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import experton.ai.employee.dto.CacheStatsResponse;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.event.EmployeeChangedEvent;
+
+/**
+ * Bounded read-through cache of {@link EmployeeResponse} by id (Caffeine, W-TinyLFU
+ * eviction). Misses are not cached. Entries are invalidated rather than overwritten on
+ * writes, because after-commit listeners of concurrent transactions may run out of
+ * commit order. Cached values are shared and must be treated as read-only.
+ */
+@Component
+public class EmployeeCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final Cache<Integer, EmployeeResponse> cache;
+
+    public EmployeeCache(@Value("${employee.cache.enabled:true}") boolean enabled,
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            @Value("${employee.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+    }
+
+    public Optional<EmployeeResponse> get(Integer id, Supplier<Optional<EmployeeResponse>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        return Optional.ofNullable(cache.get(id, key -> loader.get().orElse(null)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        cache.invalidate(event.getId());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "employees");
+    }
+
+    public CacheStatsResponse getStats() {
+        CacheStats stats = cache.stats();
+        return new CacheStatsResponse(
+            enabled,
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.evictionCount(),
+            stats.hitRate()
+        );
+    }
+}
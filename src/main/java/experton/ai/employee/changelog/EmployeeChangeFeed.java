@@ -0,0 +1,280 @@
+package experton.ai.employee.changelog;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import experton.ai.employee.dto.EmployeeChangeBatch;
+import experton.ai.employee.dto.EmployeeChangeResponse;
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.exception.ChangeLogExpiredException;
+import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.model.EmployeeChange;
+import experton.ai.employee.repository.EmployeeChangeRepository;
+
+/**
+ * Serves the change log as batches after a sequence number: directly, as long polls, or as
+ * a server-sent event stream. A single dispatcher thread, woken after every commit that
+ * logged changes, completes waiting polls and pushes new batches to stream subscribers, so
+ * idle consumers cost no queries. The dispatcher follows the context lifecycle rather than
+ * bean initialization, so a refresh-only run (a CDS training run, an AOT or CRaC checkpoint)
+ * starts no thread.
+ */
+@Component
+public class EmployeeChangeFeed implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeChangeFeed.class);
+
+    static final int MAX_BATCH_SIZE = 1000;
+    static final long MAX_WAIT_SECONDS = 60;
+
+    /** Upper bound on how long the dispatcher sleeps, which is also the long-poll deadline granularity. */
+    private static final long TICK_MILLIS = 1000;
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    private final int batchSize;
+    private final Duration heartbeat;
+    private final Duration retention;
+
+    private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Object monitor = new Object();
+    private boolean signalled;
+    private volatile boolean running;
+    private Thread dispatcher;
+
+    public EmployeeChangeFeed(@Value("${employee.changes.batch-size:500}") int batchSize,
+            @Value("${employee.changes.heartbeat:15s}") Duration heartbeat,
+            @Value("${employee.changes.retention:7d}") Duration retention) {
+        this.batchSize = batchSize;
+        this.heartbeat = heartbeat;
+        this.retention = retention;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcher = new Thread(this::dispatch, "employee-change-feed");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        dispatcher.interrupt();
+        subscriptions.forEach(subscription -> subscription.emitter.complete());
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Up to {@code limit} changes after {@code since}, oldest first.
+     */
+    public EmployeeChangeBatch read(long since, Integer limit) {
+        int size = validate(since, limit, 0);
+        return load(since, size);
+    }
+
+    /**
+     * Completes {@code result} as soon as there are changes after {@code since}, or with an
+     * empty batch after {@code waitSeconds}.
+     */
+    public void await(DeferredResult<EmployeeChangeBatch> result, long since, Integer limit, long waitSeconds) {
+        int size = validate(since, limit, waitSeconds);
+        waiters.add(new Waiter(result, since, size, System.currentTimeMillis() + waitSeconds * 1000));
+        signal();
+    }
+
+    /**
+     * Streams every change after {@code since} to {@code emitter}, one event per batch. Each
+     * event's id is the last sequence number it carries, so a reconnecting client resumes
+     * with {@code Last-Event-ID}.
+     */
+    public void subscribe(SseEmitter emitter, long since) {
+        validate(since, null, 0);
+        Subscription subscription = new Subscription(emitter, since);
+        emitter.onCompletion(() -> subscriptions.remove(subscription));
+        emitter.onTimeout(() -> subscriptions.remove(subscription));
+        emitter.onError(error -> subscriptions.remove(subscription));
+        subscriptions.add(subscription);
+        signal();
+    }
+
+    /**
+     * Wakes the dispatcher; called after each commit that logged changes.
+     */
+    public void signal() {
+        synchronized (monitor) {
+            signalled = true;
+            monitor.notifyAll();
+        }
+    }
+
+    private int validate(long since, Integer limit, long waitSeconds) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (since < 0) {
+            errors.add(new ValidationError("since", "Sequence number must not be negative"));
+        }
+        if (limit != null && (limit < 1 || limit > MAX_BATCH_SIZE)) {
+            errors.add(new ValidationError("limit", "Limit must be between 1 and " + MAX_BATCH_SIZE));
+        }
+        if (waitSeconds < 0 || waitSeconds > MAX_WAIT_SECONDS) {
+            errors.add(new ValidationError("wait", "Wait must be between 0 and " + MAX_WAIT_SECONDS + " seconds"));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Invalid change feed parameters", errors);
+        }
+
+        // Sequence numbers have no gaps, so anything older than the oldest retained change
+        // minus one has been pruned and the consumer must re-read the table
+        long last = lastSequence();
+        Long earliest = changeRepository.findEarliestSequence();
+        if (since < last && (earliest == null || since < earliest - 1)) {
+            List<ValidationError> expired = new ArrayList<>();
+            expired.add(new ValidationError("since", "Changes after " + since + " are no longer retained; "
+                    + "re-read /api/v1/employees and continue from sequence " + last));
+            throw new ChangeLogExpiredException("Change log expired", expired);
+        }
+        return limit != null ? limit : batchSize;
+    }
+
+    /**
+     * Zero until {@link EmployeeChangeLog} has created the counter row.
+     */
+    private long lastSequence() {
+        Long last = changeRepository.findLastSequence();
+        return last != null ? last : 0;
+    }
+
+    private EmployeeChangeBatch load(long since, int limit) {
+        List<EmployeeChangeResponse> changes = changeRepository
+                .findBySequenceGreaterThanOrderBySequenceAsc(since, Limit.of(limit)).stream()
+                .map(EmployeeChangeFeed::toResponse)
+                .collect(Collectors.toList());
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        return new EmployeeChangeBatch(changes, nextSince);
+    }
+
+    private static EmployeeChangeResponse toResponse(EmployeeChange change) {
+        return new EmployeeChangeResponse(change.getSequence(), change.getType(), change.getEmployeeId(),
+                change.getPayload(), change.getChangedAt());
+    }
+
+    private void dispatch() {
+        long nextHeartbeat = System.currentTimeMillis() + heartbeat.toMillis();
+        long nextPrune = System.currentTimeMillis();
+        while (running) {
+            try {
+                synchronized (monitor) {
+                    if (!signalled) {
+                        monitor.wait(TICK_MILLIS);
+                    }
+                    signalled = false;
+                }
+
+                long last = lastSequence();
+                long now = System.currentTimeMillis();
+                completeWaiters(last, now);
+                pushToSubscribers(last);
+
+                if (now >= nextHeartbeat) {
+                    sendHeartbeats();
+                    nextHeartbeat = now + heartbeat.toMillis();
+                }
+                if (now >= nextPrune) {
+                    int pruned = changeRepository.deleteOlderThan(Instant.now().minus(retention));
+                    if (pruned > 0) {
+                        log.info("Pruned {} change log entries older than {}", pruned, retention);
+                    }
+                    nextPrune = now + Duration.ofHours(1).toMillis();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Change feed dispatch failed", e);
+            }
+        }
+    }
+
+    private void completeWaiters(long last, long now) {
+        for (Iterator<Waiter> iterator = waiters.iterator(); iterator.hasNext();) {
+            Waiter waiter = iterator.next();
+            if (waiter.result.isSetOrExpired()) {
+                iterator.remove();
+            } else if (last > waiter.since) {
+                waiter.result.setResult(load(waiter.since, waiter.limit));
+                iterator.remove();
+            } else if (now >= waiter.deadline) {
+                waiter.result.setResult(new EmployeeChangeBatch(List.of(), waiter.since));
+                iterator.remove();
+            }
+        }
+    }
+
+    private void pushToSubscribers(long last) {
+        for (Subscription subscription : subscriptions) {
+            try {
+                while (subscription.cursor < last) {
+                    EmployeeChangeBatch batch = load(subscription.cursor, batchSize);
+                    if (batch.getChanges().isEmpty()) {
+                        break;
+                    }
+                    subscription.emitter.send(SseEmitter.event()
+                            .id(Long.toString(batch.getNextSince()))
+                            .name("changes")
+                            .data(batch, MediaType.APPLICATION_JSON));
+                    subscription.cursor = batch.getNextSince();
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    private void sendHeartbeats() {
+        for (Subscription subscription : subscriptions) {
+            try {
+                subscription.emitter.send(SseEmitter.event().comment("keepalive"));
+            } catch (IOException | IllegalStateException e) {
+                subscriptions.remove(subscription);
+            }
+        }
+    }
+
+    private static final class Subscription {
+        private final SseEmitter emitter;
+        private long cursor;
+
+        private Subscription(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+    }
+
+    private record Waiter(DeferredResult<EmployeeChangeBatch> result, long since, int limit, long deadline) {
+    }
+}
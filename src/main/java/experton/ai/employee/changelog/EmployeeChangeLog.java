@@ -0,0 +1,114 @@
+package experton.ai.employee.changelog;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.event.EmployeeChangedEvent;
+import experton.ai.employee.model.EmployeeChange;
+import experton.ai.employee.repository.EmployeeChangeRepository;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Writes every {@link EmployeeChangedEvent} to the {@code employee_changes} table in the
+ * transaction that made the change. Changes are buffered per transaction and appended just
+ * before commit with one counter update, so the counter row is locked only for the commit
+ * tail and sequence numbers follow commit order. Changes published outside a transaction
+ * are appended in a transaction of their own. The reactive variant writes its change rows
+ * in its own R2DBC transaction (see {@code ReactiveEmployeeRepository#appendChanges}) and
+ * publishes them already {@link EmployeeChangedEvent#isLogged() logged}.
+ */
+@Component
+public class EmployeeChangeLog {
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeChangeFeed changeFeed;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public EmployeeChangeLog(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    void initialize() {
+        transactionTemplate.executeWithoutResult(status -> changeRepository.initializeHead());
+    }
+
+    @EventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        if (event.isLogged()) {
+            changeFeed.signal();
+            return;
+        }
+        EmployeeChange change = toChange(event);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionTemplate.executeWithoutResult(status -> append(List.of(change)));
+            changeFeed.signal();
+            return;
+        }
+
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    private void append(List<EmployeeChange> changes) {
+        long sequence = changeRepository.reserveSequences(changes.size()) - changes.size();
+        for (EmployeeChange change : changes) {
+            change.setSequence(++sequence);
+        }
+        changeRepository.saveAll(changes);
+    }
+
+    /**
+     * The change log row for {@code event}, without its sequence number.
+     */
+    public EmployeeChange toChange(EmployeeChangedEvent event) {
+        try {
+            String payload = event.getEmployee() != null ? objectMapper.writeValueAsString(event.getEmployee()) : null;
+            return new EmployeeChange(null, event.getType(), event.getId(), payload, Instant.now());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize change for employee " + event.getId(), e);
+        }
+    }
+
+    private class PendingChanges implements TransactionSynchronization {
+
+        private final List<EmployeeChange> changes = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            append(changes);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(EmployeeChangeLog.this);
+            if (status == STATUS_COMMITTED) {
+                changeFeed.signal();
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package experton.ai.employee.config;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+
+/**
+ * Writes {@link EmployeeResponse} field by field instead of through Jackson's bean
+ * introspection, producing the same JSON: null fields omitted, dates as {@code yyyy-MM-dd},
+ * enums by name. Field names and enum values are pre-encoded {@link SerializedString}s, so
+ * the generator copies cached bytes instead of quoting and encoding them for every row.
+ */
+class EmployeeResponseSerializer extends StdSerializer<EmployeeResponse> {
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DATE_OF_JOINING = new SerializedString("dateOfJoining");
+    private static final SerializedString STATUS = new SerializedString("status");
+    private static final SerializedString DEPARTMENT = new SerializedString("department");
+    private static final SerializedString SALARY = new SerializedString("salary");
+    private static final SerializedString MANAGER_ID = new SerializedString("managerId");
+    private static final SerializedString VERSION = new SerializedString("version");
+
+    /** The {@code @JsonFormat} pattern on {@link EmployeeResponse#getDateOfJoining()}. */
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private static final SerializedString[] STATUS_NAMES = names(EmployeeStatus.values());
+    private static final SerializedString[] DEPARTMENT_NAMES = names(Department.values());
+
+    EmployeeResponseSerializer() {
+        super(EmployeeResponse.class);
+    }
+
+    @Override
+    public void serialize(EmployeeResponse employee, JsonGenerator generator, SerializerProvider provider)
+            throws IOException {
+        generator.writeStartObject(employee);
+        if (employee.getId() != null) {
+            generator.writeFieldName(ID);
+            generator.writeNumber(employee.getId());
+        }
+        if (employee.getName() != null) {
+            generator.writeFieldName(NAME);
+            generator.writeString(employee.getName());
+        }
+        LocalDate dateOfJoining = employee.getDateOfJoining();
+        if (dateOfJoining != null) {
+            generator.writeFieldName(DATE_OF_JOINING);
+            writeDate(generator, dateOfJoining);
+        }
+        if (employee.getStatus() != null) {
+            generator.writeFieldName(STATUS);
+            generator.writeString(STATUS_NAMES[employee.getStatus().ordinal()]);
+        }
+        if (employee.getDepartment() != null) {
+            generator.writeFieldName(DEPARTMENT);
+            generator.writeString(DEPARTMENT_NAMES[employee.getDepartment().ordinal()]);
+        }
+        if (employee.getSalary() != null) {
+            generator.writeFieldName(SALARY);
+            generator.writeNumber(employee.getSalary());
+        }
+        if (employee.getManagerId() != null) {
+            generator.writeFieldName(MANAGER_ID);
+            generator.writeNumber(employee.getManagerId());
+        }
+        if (employee.getVersion() != null) {
+            generator.writeFieldName(VERSION);
+            generator.writeNumber(employee.getVersion());
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Four-digit years are written digit by digit; any other year goes through the pattern.
+     */
+    private static void writeDate(JsonGenerator generator, LocalDate date) throws IOException {
+        int year = date.getYear();
+        if (year < 1000 || year > 9999) {
+            generator.writeString(DATE_FORMAT.format(date));
+            return;
+        }
+        char[] text = new char[10];
+        writeDigits(text, 0, year, 4);
+        text[4] = '-';
+        writeDigits(text, 5, date.getMonthValue(), 2);
+        text[7] = '-';
+        writeDigits(text, 8, date.getDayOfMonth(), 2);
+        generator.writeString(text, 0, text.length);
+    }
+
+    private static void writeDigits(char[] text, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            text[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    private static SerializedString[] names(Enum<?>[] values) {
+        SerializedString[] names = new SerializedString[values.length];
+        for (Enum<?> value : values) {
+            names[value.ordinal()] = new SerializedString(value.name());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,28 @@
+package experton.ai.employee.config;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import experton.ai.employee.dto.EmployeeChangeBatch;
+import experton.ai.employee.dto.EmployeeChangeResponse;
+import experton.ai.employee.dto.EmployeeResponse;
+
+/**
+ * Native-image hints for what Spring's AOT processing cannot infer from the code: types that
+ * Jackson serializes outside a controller signature, and resources loaded by configured name.
+ * Controller and actuator payloads, entities and Flyway's default migration location are
+ * registered by Spring itself.
+ */
+public class EmployeeRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // Written by the change log's ObjectMapper, the long poll's DeferredResult and the SSE stream
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                EmployeeResponse.class, EmployeeChangeResponse.class, EmployeeChangeBatch.class);
+
+        // spring.sql.init.schema-locations of the in-memory setup
+        hints.resources().registerPattern("db/constraints.sql");
+    }
+}
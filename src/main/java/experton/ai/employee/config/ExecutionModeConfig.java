@@ -0,0 +1,35 @@
+package experton.ai.employee.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.system.JavaVersion;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+
+/**
+ * Reports which thread model serves requests. Spring Boot silently falls back to platform
+ * threads when virtual threads are requested on a pre-21 JVM, so that case is called out.
+ */
+@Configuration
+public class ExecutionModeConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeConfig.class);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reportExecutionMode(ApplicationReadyEvent event) {
+        Environment environment = event.getApplicationContext().getEnvironment();
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("Serving requests on virtual threads");
+        } else if (requested) {
+            log.warn("Virtual threads requested but running on Java {}; serving requests on platform threads",
+                    JavaVersion.getJavaVersion());
+        } else {
+            log.info("Serving requests on platform threads");
+        }
+    }
+}
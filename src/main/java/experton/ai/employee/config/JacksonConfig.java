@@ -3,17 +3,50 @@ package experton.ai.employee.config;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 
+import experton.ai.employee.dto.EmployeeResponse;
+
 @Configuration
 public class JacksonConfig {
 
     @Bean
     public ObjectMapper objectMapper(Jackson2ObjectMapperBuilder builder) {
-        ObjectMapper objectMapper = builder.build();
+        return configure(builder.build());
+    }
+
+    /**
+     * Smile ({@code application/x-jackson-smile}) for internal consumers that ask for it;
+     * JSON stays the default. Replaces the converter Spring MVC registers on its own so
+     * both formats share one configuration.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(smileMapper(builder));
+    }
+
+    /**
+     * Shared string values let each row refer back to an enum name already written instead
+     * of repeating it.
+     */
+    static ObjectMapper smileMapper(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory factory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return configure(builder.factory(factory).build());
+    }
+
+    private static ObjectMapper configure(ObjectMapper objectMapper) {
         objectMapper.registerModule(new JavaTimeModule());
+        // List and export responses are dominated by EmployeeResponse rows
+        objectMapper.registerModule(new SimpleModule("employee-response")
+                .addSerializer(EmployeeResponse.class, new EmployeeResponseSerializer()));
         return objectMapper;
     }
 }
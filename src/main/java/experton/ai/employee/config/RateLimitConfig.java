@@ -0,0 +1,31 @@
+package experton.ai.employee.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import experton.ai.employee.ratelimit.RateLimitInterceptor;
+
+/**
+ * Applies the rate limiter to the employee API. The change feed is left out: its long
+ * polls and streams are meant to stay open, and a single dispatcher thread serves them.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<RateLimitInterceptor> rateLimitInterceptor;
+
+    public RateLimitConfig(ObjectProvider<RateLimitInterceptor> rateLimitInterceptor) {
+        this.rateLimitInterceptor = rateLimitInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        rateLimitInterceptor.ifAvailable(interceptor -> registry.addInterceptor(interceptor)
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/v1/employees/changes/**"));
+    }
+}
@@ -0,0 +1,28 @@
+package experton.ai.employee.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import experton.ai.employee.metrics.HibernateRequestProfiler;
+
+/**
+ * Hooks {@link HibernateRequestProfiler} into every session while request profiling is
+ * enabled. With it off Hibernate runs without inspector, interceptor or extra listener.
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.profiling.enabled")
+public class RequestProfilingConfig {
+
+    @Bean
+    HibernatePropertiesCustomizer requestProfilingCustomizer() {
+        HibernateRequestProfiler profiler = new HibernateRequestProfiler();
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, profiler);
+            properties.put(AvailableSettings.INTERCEPTOR, profiler);
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, HibernateRequestProfiler.class.getName());
+        };
+    }
+}
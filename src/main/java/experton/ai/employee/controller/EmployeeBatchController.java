@@ -0,0 +1,45 @@
+package experton.ai.employee.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import experton.ai.employee.dto.BatchResponse;
+import experton.ai.employee.dto.EmployeeBatchUpdateRequest;
+import experton.ai.employee.dto.EmployeeRequest;
+import experton.ai.employee.service.EmployeeBatchService;
+
+/**
+ * Bulk endpoints use custom-method paths ({@code /employees:batch}), which cannot be
+ * expressed relative to {@link EmployeeController}'s base mapping.
+ */
+@RestController
+@RequestMapping("/api/v1")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class EmployeeBatchController {
+
+    @Autowired
+    private EmployeeBatchService employeeBatchService;
+
+    @PostMapping("/employees:batch")
+    public ResponseEntity<BatchResponse> createEmployees(@RequestBody List<EmployeeRequest> requests) {
+        return ResponseEntity.ok(employeeBatchService.createEmployees(requests));
+    }
+
+    @PatchMapping("/employees:batch")
+    public ResponseEntity<BatchResponse> updateEmployees(@RequestBody List<EmployeeBatchUpdateRequest> requests) {
+        return ResponseEntity.ok(employeeBatchService.updateEmployees(requests));
+    }
+
+    @PostMapping("/employees:batchDelete")
+    public ResponseEntity<BatchResponse> deleteEmployees(@RequestBody List<Integer> ids) {
+        return ResponseEntity.ok(employeeBatchService.deleteEmployees(ids));
+    }
+}
@@ -0,0 +1,66 @@
+package experton.ai.employee.controller;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import experton.ai.employee.changelog.EmployeeChangeFeed;
+import experton.ai.employee.dto.EmployeeChangeBatch;
+
+/**
+ * Change feed over the employee change log. Consumers keep the last sequence number they
+ * processed and ask for what came after it, instead of re-reading the whole list.
+ * <p>
+ * Servlet variant only. The reactive variant still logs its writes, but does not serve the
+ * feed: there {@code /changes} is read as an employee id and rejected with a 400.
+ */
+@RestController
+@RequestMapping("/api/v1/employees/changes")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class EmployeeChangeController {
+
+    @Autowired
+    private EmployeeChangeFeed changeFeed;
+
+    @Value("${employee.changes.stream-timeout:30m}")
+    private Duration streamTimeout;
+
+    /**
+     * Changes after {@code since}. With {@code wait} (seconds), an empty result is held open
+     * as a long poll until a change is committed or the wait runs out.
+     */
+    @GetMapping
+    public DeferredResult<EmployeeChangeBatch> getChanges(@RequestParam(defaultValue = "0") long since,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(defaultValue = "0") long wait) {
+        DeferredResult<EmployeeChangeBatch> result = new DeferredResult<>(Duration.ofSeconds(wait + 5).toMillis());
+        if (wait == 0) {
+            result.setResult(changeFeed.read(since, limit));
+        } else {
+            changeFeed.await(result, since, limit, wait);
+        }
+        return result;
+    }
+
+    /**
+     * Server-sent events, one {@code changes} event per batch. {@code Last-Event-ID} (sent by
+     * reconnecting clients) takes precedence over {@code since}.
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(@RequestParam(defaultValue = "0") long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        changeFeed.subscribe(emitter, lastEventId != null ? lastEventId : since);
+        return emitter;
+    }
+}
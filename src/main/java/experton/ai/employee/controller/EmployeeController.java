@@ -3,7 +3,10 @@ package experton.ai.employee.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,47 +14,178 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import experton.ai.employee.cache.EmployeeCache;
+import experton.ai.employee.dto.CacheStatsResponse;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeePage;
 import experton.ai.employee.dto.EmployeeRequest;
 import experton.ai.employee.dto.EmployeeResponse;
-import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.dto.OrgChartNode;
+import experton.ai.employee.dto.ReportCountResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.dto.SalaryStatsResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.exception.EmployeeNotFoundException;
 import experton.ai.employee.model.Employee;
 import experton.ai.employee.service.EmployeeService;
+import experton.ai.employee.service.EmployeeStatsService;
+import experton.ai.employee.service.OrgChartService;
 
 @RestController
 @RequestMapping("/api/v1/employees")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class EmployeeController {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
     @Autowired
     private EmployeeService employeeService;
 
+    @Autowired
+    private OrgChartService orgChartService;
+
+    @Autowired
+    private EmployeeStatsService employeeStatsService;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
     @GetMapping
-    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(@RequestParam(required = false) String sort) {
-        List<EmployeeResponse> employees = employeeService.getAllEmployees(sort);
-        return ResponseEntity.ok(employees);
+    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(@RequestParam(required = false) String sort,
+            EmployeeFilter filter,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor) {
+        if (size == null && page == null && cursor == null) {
+            List<EmployeeResponse> employees = employeeService.getAllEmployees(sort, filter);
+            return ResponseEntity.ok().eTag(EmployeeETags.of(employees))
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .body(employees);
+        }
+
+        EmployeePage employeePage = employeeService.getEmployeesPage(sort, filter, size, page, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(EmployeeETags.of(employeePage.getContent(),
+                employeePage.getNextCursor(), employeePage.getNextPage()))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (employeePage.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, employeePage.getNextCursor());
+        }
+        if (employeePage.getNextPage() != null) {
+            response.header(NEXT_PAGE_HEADER, employeePage.getNextPage().toString());
+        }
+        return response.body(employeePage.getContent());
+    }
+
+    /**
+     * Streams the whole (optionally filtered) table. NDJSON is the default; a JSON array is
+     * written only when the client explicitly accepts {@code application/json} and not NDJSON.
+     */
+    @GetMapping(value = "/export", produces = { NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(required = false) Department department,
+            @RequestParam(required = false) EmployeeStatus status,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean jsonArray = accept != null
+                && MediaType.parseMediaTypes(accept).stream().anyMatch(MediaType.APPLICATION_JSON::equalsTypeAndSubtype)
+                && !accept.contains(NDJSON_VALUE);
+
+        StreamingResponseBody body = out -> employeeService.exportEmployees(department, status, jsonArray, out);
+        return ResponseEntity.ok()
+                .contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<SalaryStatsResponse>> getSalaryStats() {
+        return ResponseEntity.ok(employeeStatsService.getSalaryStats());
+    }
+
+    @GetMapping("/breakdown")
+    public ResponseEntity<EmployeeBreakdownResponse> getBreakdown(EmployeeFilter filter) {
+        return ResponseEntity.ok(employeeStatsService.getBreakdown(filter));
     }
 
+    @GetMapping("/salaries/top")
+    public ResponseEntity<List<EmployeeResponse>> getTopSalaries(EmployeeFilter filter,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(employeeStatsService.getTopSalaries(filter, limit, sort));
+    }
+
+    @GetMapping("/salaries/percentiles")
+    public ResponseEntity<List<SalaryPercentilesResponse>> getSalaryPercentiles(EmployeeFilter filter,
+            @RequestParam(name = "p", required = false) List<Double> percentiles) {
+        return ResponseEntity.ok(employeeStatsService.getSalaryPercentiles(filter, percentiles));
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(employeeCache.getStats());
+    }
+
+    /**
+     * The tag names the version and the format, and the response varies by {@code Accept}, so
+     * a cache never answers a Smile request with JSON or the other way round.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Integer id) {
+    public ResponseEntity<EmployeeResponse> getEmployeeById(@PathVariable Integer id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
         return employeeService.getEmployeeById(id)
-                .map(ResponseEntity::ok)
-                .orElseThrow(() -> new ValidationException("Employee not found with id: " + id));
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(EmployeeETags.of(employee.getVersion(), accept))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(employee))
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+
+    @GetMapping("/{id}/subtree")
+    public ResponseEntity<OrgChartNode> getSubtree(@PathVariable Integer id) {
+        return ResponseEntity.ok(orgChartService.getSubtree(id));
+    }
+
+    @GetMapping("/{id}/chain")
+    public ResponseEntity<List<EmployeeResponse>> getChainOfCommand(@PathVariable Integer id) {
+        return ResponseEntity.ok(orgChartService.getChainOfCommand(id));
+    }
+
+    @GetMapping("/{id}/reports/count")
+    public ResponseEntity<ReportCountResponse> getReportCounts(@PathVariable Integer id) {
+        return ResponseEntity.ok(orgChartService.getReportCounts(id));
     }
 
     @PostMapping
-    public ResponseEntity<Employee> createEmployee(@RequestBody EmployeeRequest employeeRequest) {
-        Employee employee = convertToEntity(employeeRequest);
+    public ResponseEntity<Employee> createEmployee(@RequestBody EmployeeRequest employeeRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Employee employee = employeeService.convertToEntity(employeeRequest);
         Employee savedEmployee = employeeService.saveEmployee(employee);
-        return new ResponseEntity<>(savedEmployee, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(EmployeeETags.of(savedEmployee.getVersion(), accept))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(savedEmployee);
     }
 
+    /**
+     * With {@code If-Match}, the update is applied only if the employee is still at one of
+     * the given versions; otherwise 412 is returned.
+     */
     @PatchMapping("/{id}")
-    public ResponseEntity<Employee> updateEmployee(@PathVariable Integer id, @RequestBody EmployeeRequest employeeRequest) {
-        Employee updatedEmployee = employeeService.updateEmployee(id, employeeRequest);
-        return ResponseEntity.ok(updatedEmployee);
+    public ResponseEntity<Employee> updateEmployee(@PathVariable Integer id, @RequestBody EmployeeRequest employeeRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Employee updatedEmployee = employeeService.updateEmployee(id, employeeRequest,
+                EmployeeETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EmployeeETags.of(updatedEmployee.getVersion(), accept))
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(updatedEmployee);
     }
 
     @DeleteMapping("/{id}")
@@ -59,15 +193,4 @@ public class EmployeeController {
         employeeService.deleteEmployee(id);
         return ResponseEntity.noContent().build();
     }
-
-    private Employee convertToEntity(EmployeeRequest request) {
-        Employee employee = new Employee();
-        employee.setName(request.getName());
-        employee.setDateOfJoining(request.getDateOfJoining());
-        employee.setStatus(request.getStatus());
-        employee.setDepartment(request.getDepartment());
-        employee.setSalary(request.getSalary());
-        employee.setManagerId(request.getManagerId());
-        return employee;
-    }
 }
@@ -0,0 +1,104 @@
+package experton.ai.employee.controller;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+import experton.ai.employee.dto.EmployeeResponse;
+
+/**
+ * Entity tags derived from employee versions, so they can be computed without serializing
+ * the response body.
+ */
+final class EmployeeETags {
+
+    private static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+    private static final String SMILE_SUFFIX = "-smile";
+
+    private EmployeeETags() {
+    }
+
+    /**
+     * Strong tag of one employee at {@code version}, in the format negotiated for
+     * {@code accept}. JSON and Smile bodies differ byte for byte, so the Smile tag carries a
+     * suffix; {@link #parseIfMatch} accepts either.
+     */
+    static String of(Long version, String accept) {
+        return "\"" + version + (isSmile(accept) ? SMILE_SUFFIX : "") + "\"";
+    }
+
+    /**
+     * Whether the body for {@code accept} is written as Smile: the most preferred acceptable
+     * type that JSON or Smile satisfies decides, and wildcards get JSON, which comes first
+     * among the converters.
+     */
+    static boolean isSmile(String accept) {
+        if (accept == null) {
+            return false;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        MimeTypeUtils.sortBySpecificity(acceptable);
+        for (MediaType type : acceptable) {
+            if (type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return false;
+            }
+            if (type.isCompatibleWith(SMILE)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Tag for a list response: every row's id and version in order, plus whatever else the
+     * response carries (e.g. paging headers). Any insert, update, delete or reordering
+     * changes it. The tag is weak: the same rows may be sent as JSON or Smile, gzipped or
+     * not, and Tomcat only compresses responses without a strong tag.
+     */
+    static String of(List<EmployeeResponse> employees, Object... extras) {
+        long hash = 1125899906842597L;
+        for (EmployeeResponse employee : employees) {
+            hash = 31 * hash + employee.getId();
+            hash = 31 * hash + (employee.getVersion() != null ? employee.getVersion() : -1);
+        }
+        for (Object extra : extras) {
+            hash = 31 * hash + (extra != null ? extra.hashCode() : 0);
+        }
+        return "W/\"" + Long.toHexString(hash) + "-" + employees.size() + "\"";
+    }
+
+    /**
+     * Versions listed in an {@code If-Match} header, or {@code null} when any version is
+     * acceptable (no header, or {@code *}). Weak and malformed tags never match.
+     */
+    static Set<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            tag = tag.trim();
+            if (tag.length() > 2 && tag.startsWith("\"") && tag.endsWith("\"")) {
+                String version = tag.substring(1, tag.length() - 1);
+                if (version.endsWith(SMILE_SUFFIX)) {
+                    version = version.substring(0, version.length() - SMILE_SUFFIX.length());
+                }
+                try {
+                    versions.add(Long.parseLong(version));
+                } catch (NumberFormatException e) {
+                    // not one of ours; cannot match
+                }
+            }
+        }
+        return versions;
+    }
+}
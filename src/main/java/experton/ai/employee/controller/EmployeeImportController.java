@@ -0,0 +1,61 @@
+package experton.ai.employee.controller;
+
+import java.io.InputStream;
+import java.net.URI;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import experton.ai.employee.dto.ImportJobResponse;
+import experton.ai.employee.enums.ImportFormat;
+import experton.ai.employee.service.EmployeeImportService;
+
+/**
+ * Import jobs for employee files. The file is the raw request body, read as a stream: CSV
+ * ({@code text/csv}) with a header row, newline-delimited JSON, or a JSON array.
+ */
+@RestController
+@RequestMapping("/api/v1/employees/imports")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class EmployeeImportController {
+
+    private static final String TEXT_CSV = "text/csv";
+
+    @Autowired
+    private EmployeeImportService employeeImportService;
+
+    @PostMapping(consumes = { TEXT_CSV, MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<ImportJobResponse> createImport(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        ImportJobResponse job = employeeImportService.submit(body, formatOf(contentType));
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/employees/imports/" + job.getId()))
+                .body(job);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> getImport(@PathVariable String id) {
+        return ResponseEntity.ok(employeeImportService.getJob(id));
+    }
+
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<ImportJobResponse> resumeImport(@PathVariable String id) {
+        return ResponseEntity.accepted().body(employeeImportService.resume(id));
+    }
+
+    private static ImportFormat formatOf(MediaType contentType) {
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return ImportFormat.NDJSON;
+        }
+        return contentType.isCompatibleWith(MediaType.APPLICATION_JSON) ? ImportFormat.JSON : ImportFormat.CSV;
+    }
+}
@@ -0,0 +1,130 @@
+package experton.ai.employee.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeRequest;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.exception.EmployeeNotFoundException;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.service.EmployeeService;
+import experton.ai.employee.service.ReactiveEmployeeService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The core employee endpoints served by WebFlux when the application runs with
+ * {@code spring.main.web-application-type=reactive}. Paths, parameters, headers and error
+ * bodies match {@link EmployeeController}. The change feed
+ * ({@link EmployeeChangeController}) is not served here.
+ */
+@RestController
+@RequestMapping("/api/v1/employees")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page";
+
+    /** Rows requested from the database at a time while an export is being written. */
+    private static final int EXPORT_PREFETCH = 256;
+
+    @Autowired
+    private ReactiveEmployeeService reactiveEmployeeService;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<EmployeeResponse>>> getAllEmployees(@RequestParam(required = false) String sort,
+            EmployeeFilter filter,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor) {
+        if (size == null && page == null && cursor == null) {
+            return Mono.just(ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .body(reactiveEmployeeService.getAllEmployees(sort, filter)));
+        }
+
+        return reactiveEmployeeService.getEmployeesPage(sort, filter, size, page, cursor).map(employeePage -> {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(EmployeeETags.of(employeePage.getContent(),
+                    employeePage.getNextCursor(), employeePage.getNextPage()))
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+            if (employeePage.getNextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, employeePage.getNextCursor());
+            }
+            if (employeePage.getNextPage() != null) {
+                response.header(NEXT_PAGE_HEADER, employeePage.getNextPage().toString());
+            }
+            return response.body(Flux.fromIterable(employeePage.getContent()));
+        });
+    }
+
+    /**
+     * Streams the whole (optionally filtered) table with backpressure. NDJSON is the default;
+     * a JSON array is written when the client asks for {@code application/json}.
+     */
+    @GetMapping(value = "/export", produces = { MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public Flux<EmployeeResponse> exportEmployees(@RequestParam(required = false) Department department,
+            @RequestParam(required = false) EmployeeStatus status) {
+        return reactiveEmployeeService.exportEmployees(department, status).limitRate(EXPORT_PREFETCH);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeResponse>> getEmployeeById(@PathVariable Integer id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return reactiveEmployeeService.getEmployeeById(id)
+                .map(employee -> ResponseEntity.ok()
+                        .eTag(EmployeeETags.of(employee.getVersion(), accept))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(employee))
+                .switchIfEmpty(Mono.error(() -> new EmployeeNotFoundException(id)));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Employee>> createEmployee(@RequestBody EmployeeRequest employeeRequest,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        Employee employee = employeeService.convertToEntity(employeeRequest);
+        return reactiveEmployeeService.saveEmployee(employee)
+                .map(savedEmployee -> ResponseEntity.status(HttpStatus.CREATED)
+                        .eTag(EmployeeETags.of(savedEmployee.getVersion(), accept))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(savedEmployee));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<Employee>> updateEmployee(@PathVariable Integer id,
+            @RequestBody EmployeeRequest employeeRequest,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        return reactiveEmployeeService.updateEmployee(id, employeeRequest, EmployeeETags.parseIfMatch(ifMatch))
+                .map(updatedEmployee -> ResponseEntity.ok()
+                        .eTag(EmployeeETags.of(updatedEmployee.getVersion(), accept))
+                        .varyBy(HttpHeaders.ACCEPT)
+                        .body(updatedEmployee));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEmployee(@PathVariable Integer id) {
+        return reactiveEmployeeService.deleteEmployee(id)
+                .then(Mono.just(ResponseEntity.noContent().<Void>build()));
+    }
+}
@@ -0,0 +1,108 @@
+package experton.ai.employee.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeePage;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.dto.SalaryStatsResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.service.ShardedEmployeeService;
+import experton.ai.employee.shard.ShardClient;
+
+/**
+ * The list and statistics endpoints of {@link EmployeeController} over every shard. A
+ * request sent by another shard carries {@link ShardClient#SHARD_HEADER} and does not match
+ * here, so {@link EmployeeController} answers it from this shard's data.
+ */
+@RestController
+@RequestMapping(value = "/api/v1/employees", headers = "!" + ShardClient.SHARD_HEADER)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "employee.sharding.enabled")
+public class ShardedEmployeeController {
+
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String NEXT_PAGE_HEADER = "X-Next-Page";
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+
+    @Autowired
+    private ShardedEmployeeService shardedEmployeeService;
+
+    @GetMapping
+    public ResponseEntity<List<EmployeeResponse>> getAllEmployees(@RequestParam(required = false) String sort,
+            EmployeeFilter filter,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) String cursor) {
+        if (size == null && page == null && cursor == null) {
+            List<EmployeeResponse> employees = shardedEmployeeService.getAllEmployees(sort, filter);
+            return ResponseEntity.ok().eTag(EmployeeETags.of(employees))
+                    .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING)
+                    .body(employees);
+        }
+
+        EmployeePage employeePage = shardedEmployeeService.getEmployeesPage(sort, filter, size, page, cursor);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(EmployeeETags.of(employeePage.getContent(),
+                employeePage.getNextCursor(), employeePage.getNextPage()))
+                .varyBy(HttpHeaders.ACCEPT, HttpHeaders.ACCEPT_ENCODING);
+        if (employeePage.getNextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, employeePage.getNextCursor());
+        }
+        if (employeePage.getNextPage() != null) {
+            response.header(NEXT_PAGE_HEADER, employeePage.getNextPage().toString());
+        }
+        return response.body(employeePage.getContent());
+    }
+
+    @GetMapping(value = "/export", produces = { NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE })
+    public ResponseEntity<StreamingResponseBody> exportEmployees(@RequestParam(required = false) Department department,
+            @RequestParam(required = false) EmployeeStatus status,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        boolean jsonArray = accept != null
+                && MediaType.parseMediaTypes(accept).stream().anyMatch(MediaType.APPLICATION_JSON::equalsTypeAndSubtype)
+                && !accept.contains(NDJSON_VALUE);
+
+        StreamingResponseBody body = out -> shardedEmployeeService.exportEmployees(department, status, jsonArray, out);
+        return ResponseEntity.ok()
+                .contentType(jsonArray ? MediaType.APPLICATION_JSON : MediaType.parseMediaType(NDJSON_VALUE))
+                .body(body);
+    }
+
+    @GetMapping("/stats")
+    public ResponseEntity<List<SalaryStatsResponse>> getSalaryStats() {
+        return ResponseEntity.ok(shardedEmployeeService.getSalaryStats());
+    }
+
+    @GetMapping("/breakdown")
+    public ResponseEntity<EmployeeBreakdownResponse> getBreakdown(EmployeeFilter filter) {
+        return ResponseEntity.ok(shardedEmployeeService.getBreakdown(filter));
+    }
+
+    @GetMapping("/salaries/top")
+    public ResponseEntity<List<EmployeeResponse>> getTopSalaries(EmployeeFilter filter,
+            @RequestParam(required = false) Integer limit, @RequestParam(required = false) String sort) {
+        return ResponseEntity.ok(shardedEmployeeService.getTopSalaries(filter, limit, sort));
+    }
+
+    @GetMapping("/salaries/percentiles")
+    public ResponseEntity<List<SalaryPercentilesResponse>> getSalaryPercentiles(EmployeeFilter filter,
+            @RequestParam(name = "p", required = false) List<Double> percentiles) {
+        return ResponseEntity.ok(shardedEmployeeService.getSalaryPercentiles(filter, percentiles));
+    }
+}
@@ -0,0 +1,26 @@
+package experton.ai.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import experton.ai.employee.enums.Department;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One department of an {@link EmployeeBreakdownResponse}. Tenure is counted in days up to
+ * today, over employees with a joining date.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class DepartmentBreakdown {
+    private Department department;
+    private long headcount;
+    private Double totalSalary;
+    private Double minSalary;
+    private Double maxSalary;
+    private Double meanSalary;
+    private Double meanTenureDays;
+}
@@ -0,0 +1,10 @@
+package experton.ai.employee.dto;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class EmployeeBatchUpdateRequest extends EmployeeRequest {
+    private Integer id;
+}
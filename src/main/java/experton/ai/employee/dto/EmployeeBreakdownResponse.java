@@ -0,0 +1,25 @@
+package experton.ai.employee.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Headcount and salary of the matching employees, broken down by department and by the
+ * year they joined. Salary figures ignore employees without a salary.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeBreakdownResponse {
+    private long headcount;
+    private Double totalSalary;
+    private Double meanSalary;
+    private List<DepartmentBreakdown> departments;
+    private List<JoiningYearBreakdown> joiningYears;
+}
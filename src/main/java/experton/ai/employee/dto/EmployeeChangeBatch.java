@@ -0,0 +1,18 @@
+package experton.ai.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A batch of changes; pass {@code nextSince} as {@code since} to continue after it.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeBatch {
+    private List<EmployeeChangeResponse> changes;
+    private long nextSince;
+}
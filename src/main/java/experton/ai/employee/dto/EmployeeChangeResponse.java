@@ -0,0 +1,27 @@
+package experton.ai.employee.dto;
+
+import java.time.Instant;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import experton.ai.employee.enums.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EmployeeChangeResponse {
+    private Long sequence;
+    private ChangeType type;
+    private Integer employeeId;
+
+    /** Stored JSON, written through as is. */
+    @JsonRawValue
+    private String employee;
+
+    private Instant changedAt;
+}
@@ -0,0 +1,37 @@
+package experton.ai.employee.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Opaque keyset position handed to clients as {@code X-Next-Cursor}. It records the
+ * sort the page was produced with, so a cursor cannot be replayed against another order.
+ */
+@Data
+@AllArgsConstructor
+public class EmployeeCursor {
+    private String sort;
+    private Double salary;
+    private Integer id;
+
+    public String encode() {
+        String raw = (sort == null ? "" : sort) + "|" + (salary == null ? "" : salary) + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static EmployeeCursor decode(String value) {
+        String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        String[] parts = raw.split("\\|", -1);
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        return new EmployeeCursor(
+            parts[0].isEmpty() ? null : parts[0],
+            parts[1].isEmpty() ? null : Double.valueOf(parts[1]),
+            Integer.valueOf(parts[2])
+        );
+    }
+}
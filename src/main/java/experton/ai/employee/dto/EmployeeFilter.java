@@ -0,0 +1,29 @@
+package experton.ai.employee.dto;
+
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import lombok.Data;
+
+/**
+ * Optional list filters, bound from query parameters. Every non-null field narrows the
+ * result; {@code name} matches as a case-sensitive prefix so it can use the name index.
+ */
+@Data
+public class EmployeeFilter {
+    private Department department;
+    private EmployeeStatus status;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate joinedFrom;
+
+    @DateTimeFormat(pattern = "yyyy-MM-dd")
+    private LocalDate joinedTo;
+
+    private Double minSalary;
+    private Double maxSalary;
+    private String name;
+}
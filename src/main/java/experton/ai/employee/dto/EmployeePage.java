@@ -0,0 +1,14 @@
+package experton.ai.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EmployeePage {
+    private List<EmployeeResponse> content;
+    private String nextCursor;
+    private Integer nextPage;
+}
@@ -26,4 +26,5 @@ public class EmployeeResponse {
     private Department department;
     private Double salary;
     private Integer managerId;
+    private Long version;
 }
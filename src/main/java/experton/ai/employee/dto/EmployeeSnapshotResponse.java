@@ -0,0 +1,12 @@
+package experton.ai.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class EmployeeSnapshotResponse {
+    private String file;
+    private int rows;
+    private long durationMillis;
+}
@@ -0,0 +1,33 @@
+package experton.ai.employee.dto;
+
+import java.time.Instant;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import experton.ai.employee.enums.ImportFormat;
+import experton.ai.employee.enums.ImportStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportJobResponse {
+    private String id;
+    private ImportFormat format;
+    private ImportStatus status;
+    private long totalRows;
+    private long importedRows;
+    private long failedRows;
+    /** Rows neither imported nor failed yet, including rows waiting for their manager. */
+    private long pendingRows;
+    private int pass;
+    private String failure;
+    private Instant createdAt;
+    private Instant updatedAt;
+    /** The first failed rows, in file order. */
+    private List<ImportRowErrorResponse> errors;
+}
@@ -0,0 +1,19 @@
+package experton.ai.employee.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ImportRowErrorResponse {
+    private long row;
+    private String ref;
+    private List<ValidationError> errors;
+}
@@ -0,0 +1,17 @@
+package experton.ai.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class JoiningYearBreakdown {
+    private int year;
+    private long headcount;
+    private Double meanSalary;
+}
@@ -0,0 +1,18 @@
+package experton.ai.employee.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class OrgChartNode {
+    private EmployeeResponse employee;
+    private List<OrgChartNode> reports = new ArrayList<>();
+
+    public OrgChartNode(EmployeeResponse employee) {
+        this.employee = employee;
+    }
+}
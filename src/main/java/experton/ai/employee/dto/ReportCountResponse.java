@@ -0,0 +1,13 @@
+package experton.ai.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class ReportCountResponse {
+    private Integer employeeId;
+    private long directReports;
+    private long indirectReports;
+    private long totalReports;
+}
@@ -0,0 +1,24 @@
+package experton.ai.employee.dto;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import experton.ai.employee.enums.Department;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salary percentiles of one department, or of every matching employee when
+ * {@code department} is absent. Only employees with a salary are counted.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalaryPercentilesResponse {
+    private Department department;
+    private long salaried;
+    private List<SalaryPercentile> percentiles;
+}
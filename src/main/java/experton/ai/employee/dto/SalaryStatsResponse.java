@@ -0,0 +1,30 @@
+package experton.ai.employee.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Salary figures ignore employees without a salary; they are {@code null} when no one in
+ * the group has one.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SalaryStatsResponse {
+    private Department department;
+    private EmployeeStatus status;
+    private long headcount;
+    private Double totalSalary;
+    private Double minSalary;
+    private Double maxSalary;
+    private Double meanSalary;
+    private Double p50Salary;
+    private Double p90Salary;
+    private Double p99Salary;
+}
@@ -0,0 +1,27 @@
+package experton.ai.employee.enums;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * The comma-separated constant names of an enum, as listed in validation messages. Each
+ * list is built once per enum type.
+ */
+public final class AllowedValues {
+
+    private static final ClassValue<String> NAMES = new ClassValue<>() {
+        @Override
+        protected String computeValue(Class<?> type) {
+            return Arrays.stream(type.getEnumConstants())
+                    .map(constant -> ((Enum<?>) constant).name())
+                    .collect(Collectors.joining(", "));
+        }
+    };
+
+    private AllowedValues() {
+    }
+
+    public static String of(Class<?> enumType) {
+        return NAMES.get(enumType);
+    }
+}
@@ -0,0 +1,8 @@
+package experton.ai.employee.enums;
+
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package experton.ai.employee.enums;
+
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
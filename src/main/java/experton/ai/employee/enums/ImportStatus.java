@@ -0,0 +1,8 @@
+package experton.ai.employee.enums;
+
+public enum ImportStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -5,11 +5,11 @@ public enum SortOrder {
 
     public static boolean isValid(String value) {
         if (value == null) return false;
-        try {
-            SortOrder.valueOf(value.toUpperCase());
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+        for (SortOrder order : values()) {
+            if (order.name().equalsIgnoreCase(value)) {
+                return true;
+            }
         }
+        return false;
     }
 }
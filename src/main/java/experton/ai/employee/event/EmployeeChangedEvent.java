@@ -0,0 +1,26 @@
+package experton.ai.employee.event;
+
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.ChangeType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * Published for every employee write. {@code employee} is the state after the change and
+ * is {@code null} for deletions. Listeners that keep derived state should use
+ * {@code @TransactionalEventListener} so they only react to committed changes.
+ * {@code logged} is set when the change row was written together with the change itself,
+ * as the reactive variant does, so the change log must not append it again.
+ */
+@Data
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+    private ChangeType type;
+    private Integer id;
+    private EmployeeResponse employee;
+    private boolean logged;
+
+    public EmployeeChangedEvent(ChangeType type, Integer id, EmployeeResponse employee) {
+        this(type, id, employee, false);
+    }
+}
@@ -0,0 +1,22 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+/**
+ * A change feed position older than the retained change log; the consumer has to re-read
+ * the full state before following the feed again.
+ */
+public class ChangeLogExpiredException extends RuntimeException {
+    final private List<ValidationError> errors;
+
+    public ChangeLogExpiredException(String message, List<ValidationError> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,26 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+/**
+ * No employee with the requested id; answered with a 404. Like {@link ValidationException}
+ * it captures no stack trace.
+ */
+public class EmployeeNotFoundException extends RuntimeException {
+    final private Integer id;
+
+    public EmployeeNotFoundException(Integer id) {
+        super("Employee not found", null, false, false);
+        this.id = id;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public List<ValidationError> getErrors() {
+        return List.of(new ValidationError("id", "Employee not found with id: " + id));
+    }
+}
@@ -1,17 +1,33 @@
 package experton.ai.employee.exception;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
+import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.validation.BindException;
+import org.springframework.validation.FieldError;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+import org.springframework.web.server.ServerWebInputException;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 
 import experton.ai.employee.dto.ErrorResponse;
 import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.AllowedValues;
 
 @ControllerAdvice
 public class GlobalExceptionHandler {
@@ -27,38 +43,218 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(EmployeeNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleEmployeeNotFound(EmployeeNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.NOT_FOUND.toString(),
+            "Employee not found",
+            ex.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(ImportJobNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleImportJobNotFound(ImportJobNotFoundException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.NOT_FOUND.toString(),
+            "Import not found",
+            ex.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.PRECONDITION_FAILED.toString(),
+            "Precondition failed",
+            ex.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ChangeLogExpiredException.class)
+    public ResponseEntity<ErrorResponse> handleChangeLogExpired(ChangeLogExpiredException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.GONE.toString(),
+            "Change log expired",
+            ex.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.GONE);
+    }
+
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequests(TooManyRequestsException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.TOO_MANY_REQUESTS.toString(),
+            "Too many requests",
+            ex.getErrors()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+            .body(errorResponse);
+    }
+
+    @ExceptionHandler(ShardUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleShardUnavailable(ShardUnavailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.toString(),
+            "Shard unavailable",
+            ex.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(ImportUnavailableException.class)
+    public ResponseEntity<ErrorResponse> handleImportUnavailable(ImportUnavailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.SERVICE_UNAVAILABLE.toString(),
+            "Import unavailable",
+            ex.getErrors()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        List<ValidationError> errors = new ArrayList<>();
+        errors.add(new ValidationError("version", "The employee was modified concurrently; fetch it and retry"));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.CONFLICT.toString(),
+            "Concurrent modification",
+            errors
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponse> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+        return invalidRequestFormat(ex);
+    }
+
+    private ResponseEntity<ErrorResponse> invalidRequestFormat(Throwable ex) {
+        List<ValidationError> errors = new ArrayList<>();
+        errors.add(formatError(ex));
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.toString(),
+            "Invalid request format",
+            errors
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Names the offending field when the body parsed but a value did not convert (an unknown
+     * enum constant, a malformed date), judged by the Jackson exception in the cause chain
+     * rather than by searching messages. Also used for rows of import files.
+     */
+    public static ValidationError formatError(Throwable ex) {
+        InvalidFormatException invalidFormat = findCause(ex, InvalidFormatException.class);
+        Class<?> targetType = invalidFormat != null ? invalidFormat.getTargetType() : null;
+        String field = invalidFormat != null ? fieldName(invalidFormat) : null;
+
+        if (field != null && targetType != null && targetType.isEnum()) {
+            return new ValidationError(field,
+                "Invalid " + field + " value. Allowed values are: " + AllowedValues.of(targetType));
+        } else if (field != null && targetType == LocalDate.class) {
+            return new ValidationError(field, "Invalid date format. Required format is: yyyy-MM-dd");
+        }
+        return new ValidationError("request", "Invalid request format");
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponse> handleMethodArgumentTypeMismatch(MethodArgumentTypeMismatchException ex) {
+        return invalidParameter(ex.getName(), ex.getRequiredType(), ex.getValue());
+    }
+
+    private ResponseEntity<ErrorResponse> invalidParameter(String name, Class<?> requiredType, Object value) {
         List<ValidationError> errors = new ArrayList<>();
-        String message = ex.getMessage();
-        String field = "";
-        String errorMessage = "";
-
-        if (message.contains("EmployeeStatus")) {
-            field = "status";
-            errorMessage = "Invalid status value. Allowed values are: Active, Not_Active";
-        } else if (message.contains("Department")) {
-            field = "department";
-            errorMessage = "Invalid department value. Allowed values are: HR, IT, Finance, Sales, Marketing";
-        } else if (message.contains("LocalDate")) {
-            field = "dateOfJoining";
-            errorMessage = "Invalid date format. Required format is: yyyy-MM-dd";
-        } else {
-            field = "request";
-            errorMessage = "Invalid request format";
+        String errorMessage = "Invalid value: " + value;
+
+        if (requiredType != null && requiredType.isEnum()) {
+            errorMessage = "Invalid " + name + " value. Allowed values are: " + AllowedValues.of(requiredType);
         }
 
-        errors.add(new ValidationError(field, errorMessage));
+        errors.add(new ValidationError(name, errorMessage));
 
         ErrorResponse errorResponse = new ErrorResponse(
             LocalDateTime.now(),
             HttpStatus.BAD_REQUEST.toString(),
-            "Invalid request format",
+            "Invalid request parameter",
             errors
         );
         return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(BindException.class)
+    public ResponseEntity<ErrorResponse> handleBindException(BindException ex) {
+        return invalidFields(ex.getFieldErrors());
+    }
+
+    /**
+     * WebFlux reports unreadable bodies, mistyped parameters and unbindable query objects as
+     * one exception type; each case is answered like its Spring MVC equivalent above.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleServerWebInput(ServerWebInputException ex) {
+        if (ex instanceof WebExchangeBindException bindException) {
+            return invalidFields(bindException.getFieldErrors());
+        }
+        if (ex.getCause() instanceof TypeMismatchException mismatch && ex.getMethodParameter() != null) {
+            return invalidParameter(ex.getMethodParameter().getParameterName(), mismatch.getRequiredType(),
+                    mismatch.getValue());
+        }
+        return invalidRequestFormat(ex);
+    }
+
+    private static <T extends Throwable> T findCause(Throwable ex, Class<T> type) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+        }
+        return null;
+    }
+
+    private static String fieldName(InvalidFormatException ex) {
+        List<JsonMappingException.Reference> path = ex.getPath();
+        return path.isEmpty() ? null : path.get(path.size() - 1).getFieldName();
+    }
+
+    private ResponseEntity<ErrorResponse> invalidFields(List<FieldError> fieldErrors) {
+        List<ValidationError> errors = fieldErrors.stream()
+            .map(fieldError -> new ValidationError(fieldError.getField(),
+                "Invalid " + fieldError.getField() + " value: " + fieldError.getRejectedValue()))
+            .collect(Collectors.toList());
+
+        ErrorResponse errorResponse = new ErrorResponse(
+            LocalDateTime.now(),
+            HttpStatus.BAD_REQUEST.toString(),
+            "Invalid request parameter",
+            errors
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * The client went away while a response was being streamed (export, change feed); there
+     * is nobody left to answer. Any other I/O failure is a server error.
+     */
+    @ExceptionHandler({ AsyncRequestNotUsableException.class, ClientAbortException.class })
+    public void handleClientDisconnect(Exception ex) {
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
         List<ValidationError> errors = new ArrayList<>();
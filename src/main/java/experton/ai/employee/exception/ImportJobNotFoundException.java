@@ -0,0 +1,22 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+public class ImportJobNotFoundException extends RuntimeException {
+    final private String id;
+
+    public ImportJobNotFoundException(String id) {
+        super("Import not found", null, false, false);
+        this.id = id;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public List<ValidationError> getErrors() {
+        return List.of(new ValidationError("id", "Import not found with id: " + id));
+    }
+}
@@ -0,0 +1,20 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+/**
+ * Imports are not being processed because the application is starting or shutting down;
+ * answered with a 503 so the client retries later.
+ */
+public class ImportUnavailableException extends RuntimeException {
+
+    public ImportUnavailableException() {
+        super("Imports are not accepted while the service is starting or stopping");
+    }
+
+    public List<ValidationError> getErrors() {
+        return List.of(new ValidationError("import", getMessage()));
+    }
+}
@@ -0,0 +1,22 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+/**
+ * A conditional request ({@code If-Match}) whose precondition does not hold for the current
+ * state of the resource.
+ */
+public class PreconditionFailedException extends RuntimeException {
+    final private List<ValidationError> errors;
+
+    public PreconditionFailedException(String message, List<ValidationError> errors) {
+        super(message);
+        this.errors = errors;
+    }
+
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+}
@@ -0,0 +1,26 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+/**
+ * Another shard could not be reached or did not answer a request it was sent; answered with
+ * a 503, since the request needs data only that shard has.
+ */
+public class ShardUnavailableException extends RuntimeException {
+    final private int shard;
+
+    public ShardUnavailableException(int shard, String reason, Throwable cause) {
+        super("Shard " + shard + " is unavailable: " + reason, cause);
+        this.shard = shard;
+    }
+
+    public int getShard() {
+        return shard;
+    }
+
+    public List<ValidationError> getErrors() {
+        return List.of(new ValidationError("shard", getMessage()));
+    }
+}
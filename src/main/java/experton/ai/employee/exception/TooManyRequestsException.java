@@ -0,0 +1,28 @@
+package experton.ai.employee.exception;
+
+import java.util.List;
+
+import experton.ai.employee.dto.ValidationError;
+
+/**
+ * A request rejected by the rate limiter. It is thrown on every rejection under overload,
+ * so no stack trace is captured.
+ */
+public class TooManyRequestsException extends RuntimeException {
+    final private List<ValidationError> errors;
+    final private long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, List<ValidationError> errors, long retryAfterSeconds) {
+        super(message, null, false, false);
+        this.errors = errors;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public List<ValidationError> getErrors() {
+        return errors;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
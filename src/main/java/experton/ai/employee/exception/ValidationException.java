@@ -5,16 +5,19 @@ import java.util.List;
 
 import experton.ai.employee.dto.ValidationError;
 
+/**
+ * Rejected input. It is ordinary control flow answered with a 400, so no stack trace is
+ * captured.
+ */
 public class ValidationException extends RuntimeException {
     final private List<ValidationError> errors;
 
     public ValidationException(String message) {
-        super(message);
-        this.errors = new ArrayList<>();
+        this(message, new ArrayList<>());
     }
 
     public ValidationException(String message, List<ValidationError> errors) {
-        super(message);
+        super(message, null, false, false);
         this.errors = errors;
     }
 
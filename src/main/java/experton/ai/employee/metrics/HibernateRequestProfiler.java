@@ -0,0 +1,111 @@
+package experton.ai.employee.metrics;
+
+import org.hibernate.Interceptor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.hibernate.type.Type;
+
+/**
+ * Feeds the {@link RequestProfile} of the current request from Hibernate: the statement
+ * inspector sees the SQL of each statement as it is prepared, the interceptor counts entity
+ * loads, and the session event listener times prepares, executions, batches and flushes.
+ * Registered by {@code RequestProfilingConfig} only while profiling is enabled.
+ */
+public class HibernateRequestProfiler implements StatementInspector, Interceptor, SessionEventListener {
+
+    @Override
+    public String inspect(String sql) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.statementPrepared(sql);
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean onLoad(Object entity, Object id, Object[] state, String[] propertyNames, Type[] types) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.entityLoaded();
+        }
+        return false;
+    }
+
+    @Override
+    public void jdbcPrepareStatementStart() {
+        statementStarted();
+    }
+
+    @Override
+    public void jdbcPrepareStatementEnd() {
+        statementEnded(false);
+    }
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        statementEnded(true);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        statementStarted();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        statementEnded(true);
+    }
+
+    @Override
+    public void flushStart() {
+        flushStarted();
+    }
+
+    @Override
+    public void flushEnd(int numberOfEntities, int numberOfCollections) {
+        flushEnded();
+    }
+
+    @Override
+    public void partialFlushStart() {
+        flushStarted();
+    }
+
+    @Override
+    public void partialFlushEnd(int numberOfEntities, int numberOfCollections) {
+        flushEnded();
+    }
+
+    private static void statementStarted() {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.statementStarted();
+        }
+    }
+
+    private static void statementEnded(boolean executed) {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.statementEnded(executed);
+        }
+    }
+
+    private static void flushStarted() {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.flushStarted();
+        }
+    }
+
+    private static void flushEnded() {
+        RequestProfile profile = RequestProfile.current();
+        if (profile != null) {
+            profile.flushEnded();
+        }
+    }
+}
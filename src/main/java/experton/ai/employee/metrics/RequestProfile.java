@@ -0,0 +1,193 @@
+package experton.ai.employee.metrics;
+
+import java.util.Locale;
+
+/**
+ * Where the time of one API request went: SQL statements sent through Hibernate, session
+ * flushes (which include the statements they send), entity loads, reading the request
+ * body, validation and writing the response body. A profile is bound to the request thread
+ * by {@link RequestProfileFilter} and fed by {@link HibernateRequestProfiler},
+ * {@link RequestProfileAdvice} and the service layer; with profiling off there is no
+ * profile and every hook returns after one thread-local lookup.
+ *
+ * <p>Statements issued through {@code JdbcTemplate} (column store loads, snapshots) bypass
+ * Hibernate and are not counted.
+ */
+public final class RequestProfile {
+
+    private static final ThreadLocal<RequestProfile> CURRENT = new ThreadLocal<>();
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private final long started = System.nanoTime();
+    private long completed;
+    private int statements;
+    private long statementNanos;
+    private long statementStarted;
+    private String preparedSql;
+    private long slowestStatementNanos;
+    private String slowestSql;
+    private int flushes;
+    private long flushNanos;
+    private long flushStarted;
+    private int flushDepth;
+    private int entityLoads;
+    private long readNanos;
+    private long readStarted;
+    private long validationNanos;
+    private long writeStarted;
+
+    private RequestProfile() {
+    }
+
+    /**
+     * The profile of the request on this thread, or null when it is not profiled.
+     */
+    public static RequestProfile current() {
+        return CURRENT.get();
+    }
+
+    static RequestProfile begin() {
+        RequestProfile profile = new RequestProfile();
+        CURRENT.set(profile);
+        return profile;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Start time for {@link #recordValidation}, or 0 when the request is not profiled.
+     */
+    public static long startTimer() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void recordValidation(long started) {
+        RequestProfile profile;
+        if (started != 0 && (profile = CURRENT.get()) != null) {
+            profile.validationNanos += System.nanoTime() - started;
+        }
+    }
+
+    void statementPrepared(String sql) {
+        preparedSql = sql;
+    }
+
+    void statementStarted() {
+        statementStarted = System.nanoTime();
+    }
+
+    /**
+     * Ends a prepare ({@code executed} false) or an execution, both counted as SQL time.
+     */
+    void statementEnded(boolean executed) {
+        long nanos = System.nanoTime() - statementStarted;
+        statementNanos += nanos;
+        if (executed) {
+            statements++;
+            if (nanos > slowestStatementNanos) {
+                slowestStatementNanos = nanos;
+                slowestSql = preparedSql;
+            }
+        }
+    }
+
+    void flushStarted() {
+        if (flushDepth++ == 0) {
+            flushStarted = System.nanoTime();
+        }
+    }
+
+    void flushEnded() {
+        if (--flushDepth == 0) {
+            flushes++;
+            flushNanos += System.nanoTime() - flushStarted;
+        }
+    }
+
+    void entityLoaded() {
+        entityLoads++;
+    }
+
+    void readStarted() {
+        readStarted = System.nanoTime();
+    }
+
+    void readEnded() {
+        if (readStarted != 0) {
+            readNanos += System.nanoTime() - readStarted;
+            readStarted = 0;
+        }
+    }
+
+    void writeStarted() {
+        writeStarted = System.nanoTime();
+    }
+
+    void complete() {
+        completed = System.nanoTime();
+    }
+
+    long totalNanos() {
+        return endedAt() - started;
+    }
+
+    private long endedAt() {
+        return completed != 0 ? completed : System.nanoTime();
+    }
+
+    /**
+     * The {@code Server-Timing} header value. Before {@link #complete()} the total and the
+     * write phase run up to now.
+     */
+    String serverTiming() {
+        StringBuilder header = new StringBuilder();
+        metric(header, "total", totalNanos(), null);
+        metric(header, "sql", statementNanos, statements + (statements == 1 ? " statement" : " statements"));
+        metric(header, "flush", flushNanos, flushes + (flushes == 1 ? " flush" : " flushes"));
+        metric(header, "read", readNanos, null);
+        metric(header, "validation", validationNanos, null);
+        if (writeStarted != 0) {
+            metric(header, "write", endedAt() - writeStarted, null);
+        }
+        header.append(", entities;desc=\"").append(entityLoads).append(" loaded\"");
+        return header.toString();
+    }
+
+    /**
+     * The profile as {@code key=value} pairs for the slow request log.
+     */
+    String logFields() {
+        StringBuilder fields = new StringBuilder();
+        fields.append("total_ms=").append(millis(totalNanos()))
+                .append(" sql_statements=").append(statements)
+                .append(" sql_ms=").append(millis(statementNanos))
+                .append(" flushes=").append(flushes)
+                .append(" flush_ms=").append(millis(flushNanos))
+                .append(" entity_loads=").append(entityLoads)
+                .append(" read_ms=").append(millis(readNanos))
+                .append(" validation_ms=").append(millis(validationNanos))
+                .append(" write_ms=").append(millis(writeStarted != 0 ? endedAt() - writeStarted : 0));
+        if (slowestSql != null) {
+            String sql = slowestSql.length() > MAX_SQL_LENGTH ? slowestSql.substring(0, MAX_SQL_LENGTH) + "..." : slowestSql;
+            fields.append(" slowest_sql_ms=").append(millis(slowestStatementNanos))
+                    .append(" slowest_sql=\"").append(sql.replace("\"", "'")).append('"');
+        }
+        return fields.toString();
+    }
+
+    private static void metric(StringBuilder header, String name, long nanos, String description) {
+        if (!header.isEmpty()) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(millis(nanos));
+        if (description != null) {
+            header.append(";desc=\"").append(description).append('"');
+        }
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+}
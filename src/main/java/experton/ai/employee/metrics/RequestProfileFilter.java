@@ -0,0 +1,157 @@
+package experton.ai.employee.metrics;
+
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Profiles each API request: binds a {@link RequestProfile} to the thread for the
+ * request, returns it as a {@code Server-Timing} header and logs it when the request took
+ * at least the slow request threshold. The change feed is left out, as its long polls and
+ * streams are slow by design.
+ *
+ * <p>Message converters flush the response after writing the body, which would commit it
+ * before the header can be set; those flushes are held back until the profile is complete.
+ * A body larger than the response buffer still commits while it is written, and then
+ * carries the header set by {@link RequestProfileAdvice} before the write.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.profiling.enabled")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestProfileFilter extends OncePerRequestFilter {
+
+    static final String HEADER = "Server-Timing";
+
+    private static final Logger log = LoggerFactory.getLogger(RequestProfileFilter.class);
+
+    private final long slowRequestNanos;
+
+    public RequestProfileFilter(@Value("${employee.profiling.slow-request-threshold-ms:500}") long slowRequestMillis) {
+        this.slowRequestNanos = slowRequestMillis * 1_000_000;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return !path.startsWith("/api/") || path.startsWith("/api/v1/employees/changes");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        RequestProfile profile = RequestProfile.begin();
+        DeferredFlushResponse deferred = new DeferredFlushResponse(response);
+        try {
+            chain.doFilter(request, deferred);
+        } finally {
+            RequestProfile.end();
+            if (!request.isAsyncStarted()) {
+                profile.complete();
+                if (!response.isCommitted()) {
+                    response.setHeader(HEADER, profile.serverTiming());
+                }
+                if (profile.totalNanos() >= slowRequestNanos) {
+                    log.warn("Slow request method={} path={} status={} {}", request.getMethod(),
+                            request.getRequestURI(), response.getStatus(), profile.logFields());
+                }
+            }
+            deferred.release();
+        }
+    }
+
+    /**
+     * Holds back flushes of the response and its output stream until {@link #release()};
+     * the buffered body is sent then.
+     */
+    private static final class DeferredFlushResponse extends HttpServletResponseWrapper {
+
+        private boolean deferring = true;
+        private boolean flushRequested;
+        private ServletOutputStream outputStream;
+
+        DeferredFlushResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            if (outputStream == null) {
+                outputStream = new DeferredFlushOutputStream(super.getOutputStream());
+            }
+            return outputStream;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            if (deferring) {
+                flushRequested = true;
+            } else {
+                super.flushBuffer();
+            }
+        }
+
+        void release() throws IOException {
+            deferring = false;
+            if (flushRequested) {
+                super.flushBuffer();
+            }
+        }
+
+        private final class DeferredFlushOutputStream extends ServletOutputStream {
+
+            private final ServletOutputStream delegate;
+
+            DeferredFlushOutputStream(ServletOutputStream delegate) {
+                this.delegate = delegate;
+            }
+
+            @Override
+            public void write(int b) throws IOException {
+                delegate.write(b);
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) throws IOException {
+                delegate.write(b, off, len);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                if (deferring) {
+                    flushRequested = true;
+                } else {
+                    delegate.flush();
+                }
+            }
+
+            @Override
+            public void close() throws IOException {
+                delegate.close();
+            }
+
+            @Override
+            public boolean isReady() {
+                return delegate.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                delegate.setWriteListener(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package experton.ai.employee.metrics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.exception.EmployeeNotFoundException;
+import experton.ai.employee.exception.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Times every public service method as {@code employee.service}, tagged with the class,
+ * method and outcome ({@code success}, {@code validation_error}, {@code not_found} or
+ * {@code error}). Each rejected field is also counted in {@code employee.validation.errors}.
+ */
+@Aspect
+@Component
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry meterRegistry;
+
+    public ServiceMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("within(experton.ai.employee.service..*) && execution(public * *(..))")
+    public Object timeServiceCall(ProceedingJoinPoint joinPoint) throws Throwable {
+        String className = joinPoint.getSignature().getDeclaringType().getSimpleName();
+        String method = joinPoint.getSignature().getName();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+
+        try {
+            return joinPoint.proceed();
+        } catch (ValidationException e) {
+            outcome = "validation_error";
+            for (ValidationError error : e.getErrors()) {
+                Counter.builder("employee.validation.errors")
+                        .tag("method", method)
+                        .tag("field", error.getField())
+                        .register(meterRegistry)
+                        .increment();
+            }
+            throw e;
+        } catch (EmployeeNotFoundException e) {
+            outcome = "not_found";
+            throw e;
+        } catch (Throwable e) {
+            outcome = "error";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("employee.service")
+                    .tag("class", className)
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -2,6 +2,8 @@ package experton.ai.employee.model;
 
 import java.time.LocalDate;
 
+import org.hibernate.annotations.ColumnDefault;
+
 import experton.ai.employee.enums.Department;
 import experton.ai.employee.enums.EmployeeStatus;
 import jakarta.persistence.Column;
@@ -11,20 +13,32 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "employees")
+@Table(name = "employees", indexes = {
+    @Index(name = "idx_employees_salary_id", columnList = "salary, id"),
+    @Index(name = "idx_employees_salary_id_desc", columnList = "salary desc, id desc"),
+    @Index(name = "idx_employees_manager_id", columnList = "manager_id"),
+    @Index(name = "idx_employees_department_status_salary", columnList = "department, status, salary"),
+    @Index(name = "idx_employees_status_date_of_joining", columnList = "status, date_of_joining"),
+    @Index(name = "idx_employees_date_of_joining", columnList = "date_of_joining"),
+    @Index(name = "idx_employees_name", columnList = "name")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Employee {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employees_seq")
+    @SequenceGenerator(name = "employees_seq", sequenceName = "employees_seq", allocationSize = 50)
     @Column(name = "id")
     private Integer id;
 
@@ -47,4 +61,13 @@ public class Employee {
 
     @Column(name = "manager_id")
     private Integer managerId;
+
+    /**
+     * Incremented on every update; drives ETags and rejects lost updates. Rows inserted with
+     * plain SQL start at 0.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
 }
@@ -0,0 +1,64 @@
+package experton.ai.employee.model;
+
+import java.time.Instant;
+
+import org.springframework.data.domain.Persistable;
+
+import experton.ai.employee.enums.ChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One committed employee mutation in the change log (transactional outbox). Sequence numbers
+ * are assigned at commit time from {@link EmployeeChangeHead}, so they are gap-free and
+ * increase in commit order.
+ */
+@Entity
+@Table(name = "employee_changes", indexes = {
+    @Index(name = "idx_employee_changes_changed_at", columnList = "changed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChange implements Persistable<Long> {
+
+    @Id
+    @Column(name = "seq")
+    private Long sequence;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "change_type", nullable = false)
+    private ChangeType type;
+
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    /** The employee as JSON after the change; null for deletes. */
+    @Column(name = "payload", length = 4000)
+    private String payload;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+
+    @Override
+    public Long getId() {
+        return sequence;
+    }
+
+    /**
+     * Log rows are only ever inserted, so {@code save} persists without first selecting by
+     * the (assigned) id.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+}
@@ -0,0 +1,26 @@
+package experton.ai.employee.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Single-row counter holding the last assigned change sequence number. Writers increment it
+ * just before committing, so its row lock orders change-log appends by commit.
+ */
+@Entity
+@Table(name = "employee_change_head")
+@Data
+@NoArgsConstructor
+public class EmployeeChangeHead {
+
+    @Id
+    @Column(name = "id")
+    private Integer id;
+
+    @Column(name = "last_sequence", nullable = false)
+    private Long lastSequence;
+}
@@ -0,0 +1,81 @@
+package experton.ai.employee.model;
+
+import java.time.Instant;
+
+import experton.ai.employee.enums.ImportFormat;
+import experton.ai.employee.enums.ImportStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One bulk import of an uploaded employee file, with its progress. The rows are processed
+ * in passes: the first pass reads the spooled upload, and each later pass re-reads only the
+ * rows deferred by the one before because their manager had not been imported yet. The
+ * checkpoint ({@code pass}, {@code passPosition}, {@code pendingBytes}) is committed with every
+ * chunk of written rows, so a failed or interrupted job resumes after its last chunk.
+ */
+@Entity
+@Table(name = "employee_import_jobs")
+@Data
+@NoArgsConstructor
+public class ImportJob {
+
+    @Id
+    @Column(name = "id", length = 36)
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false)
+    private ImportFormat format;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private ImportStatus status;
+
+    @Column(name = "total_rows", nullable = false)
+    private long totalRows;
+
+    @Column(name = "imported_rows", nullable = false)
+    private long importedRows;
+
+    @Column(name = "failed_rows", nullable = false)
+    private long failedRows;
+
+    /** Current pass, starting at 1. */
+    @Column(name = "pass", nullable = false)
+    private int pass;
+
+    /** Rows of the current pass's input already processed. */
+    @Column(name = "pass_position", nullable = false)
+    private long passPosition;
+
+    /** Rows imported so far in the current pass; a pass that imports none ends the job. */
+    @Column(name = "pass_imported_rows", nullable = false)
+    private long passImportedRows;
+
+    /** Rows deferred to the next pass so far, and the committed length of that file. */
+    @Column(name = "pending_rows", nullable = false)
+    private long pendingRows;
+
+    @Column(name = "pending_bytes", nullable = false)
+    private long pendingBytes;
+
+    /** Set once a pass imported nothing: the rows still deferred then fail instead. */
+    @Column(name = "final_pass", nullable = false)
+    private boolean finalPass;
+
+    @Column(name = "failure", length = 1000)
+    private String failure;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private Instant updatedAt;
+}
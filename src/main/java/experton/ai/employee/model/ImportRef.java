@@ -0,0 +1,64 @@
+package experton.ai.employee.model;
+
+import java.io.Serializable;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The employee created for a row of an import file that declared a {@code ref}, so other
+ * rows of the same file can name it as their {@code managerRef}. Kept in the database
+ * rather than in memory, which bounds the memory a job needs regardless of file size.
+ */
+@Entity
+@Table(name = "employee_import_refs", indexes = {
+    // For ref IN (...) lookups, see ImportRefRepository
+    @Index(name = "idx_employee_import_refs_ref_job_id", columnList = "ref, job_id")
+})
+@IdClass(ImportRef.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRef implements Persistable<ImportRef.Key> {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    @Id
+    @Column(name = "ref")
+    private String ref;
+
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    @Override
+    public Key getId() {
+        return new Key(jobId, ref);
+    }
+
+    /**
+     * Refs are only ever inserted, so {@code saveAll} persists without selecting first.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String jobId;
+        private String ref;
+    }
+}
@@ -0,0 +1,62 @@
+package experton.ai.employee.model;
+
+import java.io.Serializable;
+
+import org.springframework.data.domain.Persistable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A row of an import file that was not written, with its validation errors as JSON.
+ */
+@Entity
+@Table(name = "employee_import_errors")
+@IdClass(ImportRowError.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError implements Persistable<ImportRowError.Key> {
+
+    @Id
+    @Column(name = "job_id", length = 36)
+    private String jobId;
+
+    /** 1-based row number in the uploaded file, not counting a CSV header. */
+    @Id
+    @Column(name = "row_index")
+    private long rowNumber;
+
+    @Column(name = "ref")
+    private String ref;
+
+    @Column(name = "errors", length = 4000, nullable = false)
+    private String errors;
+
+    @Override
+    public Key getId() {
+        return new Key(jobId, rowNumber);
+    }
+
+    /**
+     * Errors are only ever inserted, so {@code saveAll} persists without selecting first.
+     */
+    @Override
+    public boolean isNew() {
+        return true;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String jobId;
+        private long rowNumber;
+    }
+}
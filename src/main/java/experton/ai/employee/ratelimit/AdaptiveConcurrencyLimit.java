@@ -0,0 +1,70 @@
+package experton.ai.employee.ratelimit;
+
+/**
+ * A concurrency limit that follows observed latency (AIMD). Latency is smoothed twice: a
+ * short average over roughly the last 10 requests, and a long one over roughly the last
+ * 200, which is the baseline. While the short average stays within {@code tolerance} times
+ * the baseline, every completed request grows the limit by 1/limit, about one per limit's
+ * worth of requests, however many are in flight. Once it rises above, the limit shrinks by
+ * 10%, at most once per limit's worth of requests so one slow spell is not counted again for
+ * every request it delays. Both averages settle on the mix of fast and slow requests rather
+ * than on the fastest one, and follow it as the table grows. The limit stays between one
+ * and {@code maxLimit}.
+ */
+final class AdaptiveConcurrencyLimit {
+
+    private static final double BACKOFF = 0.9;
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final double BASELINE_WEIGHT = 0.005;
+
+    private final int maxLimit;
+    private final double tolerance;
+
+    private double limit;
+    private int inFlight;
+    private long samples;
+    private double shortLatency;
+    private double baseline;
+    private long sinceBackoff;
+
+    AdaptiveConcurrencyLimit(int maxLimit, double tolerance) {
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.limit = maxLimit;
+    }
+
+    synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    synchronized void release(long latencyNanos) {
+        inFlight--;
+        // Plain means until there are enough samples for the weights, so the first requests
+        // do not stand in for the whole baseline
+        samples++;
+        shortLatency += Math.max(SHORT_WEIGHT, 1.0 / samples) * (latencyNanos - shortLatency);
+        baseline += Math.max(BASELINE_WEIGHT, 1.0 / samples) * (latencyNanos - baseline);
+
+        sinceBackoff++;
+        if (shortLatency > baseline * tolerance) {
+            if (sinceBackoff >= limit) {
+                limit = Math.max(1, limit * BACKOFF);
+                sinceBackoff = 0;
+            }
+        } else {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,152 @@
+package experton.ai.employee.ratelimit;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Admits requests per client and {@link RequestClass}. Each client gets its own token
+ * bucket per class. Each route of a class also has one {@link AdaptiveConcurrencyLimit}
+ * shared by all clients, so a lookup's latency is never compared with a batch write's.
+ * Budgets are read from {@code employee.rate-limit.<class>.rate}, {@code .burst} and
+ * {@code .max-concurrency}, the last applying to each route. Idle buckets are evicted, and
+ * a bucket idle that long would have refilled anyway.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.rate-limit.enabled", matchIfMissing = true)
+public class EmployeeRateLimiter implements MeterBinder {
+
+    private final Map<RequestClass, Budget> budgets = new EnumMap<>(RequestClass.class);
+    private final Cache<BucketKey, TokenBucket> buckets;
+    private final double tolerance;
+    private volatile MeterRegistry meterRegistry;
+
+    public EmployeeRateLimiter(Environment environment) {
+        this.tolerance = environment.getProperty("employee.rate-limit.latency-tolerance", Double.class, 2.0);
+        for (RequestClass requestClass : RequestClass.values()) {
+            String prefix = "employee.rate-limit." + requestClass.getProperty() + ".";
+            budgets.put(requestClass, new Budget(
+                    environment.getProperty(prefix + "rate", Double.class, requestClass.getDefaultRate()),
+                    environment.getProperty(prefix + "burst", Integer.class, requestClass.getDefaultBurst()),
+                    environment.getProperty(prefix + "max-concurrency", Integer.class,
+                            requestClass.getDefaultMaxConcurrency()),
+                    new ConcurrentHashMap<>()));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(environment.getProperty("employee.rate-limit.max-clients", Long.class, 100_000L))
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+    }
+
+    /**
+     * Admits one request to {@code route} or throws {@link TooManyRequestsException}. The
+     * returned permit must be released when the request completes.
+     */
+    public Permit acquire(String client, RequestClass requestClass, String route) {
+        Budget budget = budgets.get(requestClass);
+        long now = System.nanoTime();
+        TokenBucket bucket = buckets.get(new BucketKey(client, requestClass),
+                key -> new TokenBucket(budget.rate, budget.burst, now));
+
+        long waitNanos = bucket.tryConsume(now);
+        if (waitNanos > 0) {
+            throw reject(requestClass, "rate", "Rate limit exceeded for " + requestClass.getProperty()
+                    + " requests; retry later", waitNanos);
+        }
+        AdaptiveConcurrencyLimit concurrency = budget.limits.computeIfAbsent(route,
+                key -> newLimit(requestClass, key, budget.maxConcurrency));
+        if (!concurrency.tryAcquire()) {
+            throw reject(requestClass, "concurrency", "Too many concurrent " + requestClass.getProperty()
+                    + " requests; retry later", 0);
+        }
+        return new Permit(concurrency, now);
+    }
+
+    private AdaptiveConcurrencyLimit newLimit(RequestClass requestClass, String route, int maxConcurrency) {
+        AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(maxConcurrency, tolerance);
+        MeterRegistry registry = meterRegistry;
+        if (registry != null) {
+            registerGauges(registry, requestClass, route, limit);
+        }
+        return limit;
+    }
+
+    private TooManyRequestsException reject(RequestClass requestClass, String reason, String message, long waitNanos) {
+        if (meterRegistry != null) {
+            Counter.builder("employee.rate_limit.rejected")
+                    .tag("class", requestClass.getProperty())
+                    .tag("reason", reason)
+                    .register(meterRegistry)
+                    .increment();
+        }
+        long retryAfter = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        return new TooManyRequestsException("Too many requests",
+                List.of(new ValidationError("request", message)), retryAfter);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        budgets.forEach((requestClass, budget) -> budget.limits.forEach(
+                (route, limit) -> registerGauges(registry, requestClass, route, limit)));
+    }
+
+    private static void registerGauges(MeterRegistry registry, RequestClass requestClass, String route,
+            AdaptiveConcurrencyLimit limit) {
+        Gauge.builder("employee.concurrency.limit", limit, AdaptiveConcurrencyLimit::getLimit)
+                .tag("class", requestClass.getProperty())
+                .tag("route", route)
+                .register(registry);
+        Gauge.builder("employee.concurrency.in_flight", limit, AdaptiveConcurrencyLimit::getInFlight)
+                .tag("class", requestClass.getProperty())
+                .tag("route", route)
+                .register(registry);
+    }
+
+    /**
+     * An admitted request's concurrency slot. Releasing it reports the request's latency to
+     * the adaptive limit; releasing twice has no effect.
+     */
+    public static final class Permit {
+        private final AdaptiveConcurrencyLimit concurrency;
+        private final long startedAt;
+        private boolean released;
+
+        private Permit(AdaptiveConcurrencyLimit concurrency, long startedAt) {
+            this.concurrency = concurrency;
+            this.startedAt = startedAt;
+        }
+
+        public synchronized void release() {
+            if (!released) {
+                released = true;
+                concurrency.release(System.nanoTime() - startedAt);
+            }
+        }
+    }
+
+    private record Budget(double rate, int burst, int maxConcurrency,
+            ConcurrentMap<String, AdaptiveConcurrencyLimit> limits) {
+    }
+
+    private record BucketKey(String client, RequestClass requestClass) {
+    }
+}
@@ -0,0 +1,121 @@
+package experton.ai.employee.ratelimit;
+
+import java.security.Principal;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.exception.TooManyRequestsException;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Runs every API request past {@link EmployeeRateLimiter} before the controller. Rejections
+ * are thrown as {@link TooManyRequestsException} and answered by the exception handler. An
+ * asynchronous request (an export) keeps its permit until the async dispatch completes. A
+ * request a filter marked with {@link #EXEMPT_ATTRIBUTE}, such as another shard's part of a
+ * list, is not limited: its client was charged where the request arrived.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.rate-limit.enabled", matchIfMissing = true)
+public class RateLimitInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String EXEMPT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".exempt";
+
+    private static final String PERMIT_ATTRIBUTE = RateLimitInterceptor.class.getName() + ".permit";
+    private static final String LIST_PATH = "/api/v1/employees";
+    private static final String EXPORT_PATH = "/api/v1/employees/export";
+    private static final String BREAKDOWN_PATH = "/api/v1/employees/breakdown";
+    private static final String PERCENTILES_PATH = "/api/v1/employees/salaries/percentiles";
+
+    @Autowired
+    private EmployeeRateLimiter rateLimiter;
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    private final String clientHeader;
+    private final Set<String> trustedProxies;
+
+    public RateLimitInterceptor(@Value("${employee.rate-limit.client-header:X-Client-Id}") String clientHeader,
+            @Value("${employee.rate-limit.trusted-proxies:}") Set<String> trustedProxies) {
+        this.clientHeader = clientHeader;
+        this.trustedProxies = trustedProxies;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (request.getDispatcherType() == DispatcherType.ASYNC || request.getAttribute(EXEMPT_ATTRIBUTE) != null) {
+            return true;
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE,
+                rateLimiter.acquire(clientOf(request), classify(request), routeOf(request)));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+            Exception ex) {
+        Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+        if (permit != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            ((EmployeeRateLimiter.Permit) permit).release();
+        }
+    }
+
+    /**
+     * The authenticated principal, else the remote address. A trusted proxy is itself shared
+     * by many clients, so its requests are keyed by the client id header it passes on.
+     */
+    private String clientOf(HttpServletRequest request) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String address = request.getRemoteAddr();
+        if (trustedProxies.contains(address)) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isBlank()) {
+                return "client:" + client;
+            }
+        }
+        return "address:" + address;
+    }
+
+    /**
+     * The method and mapped path pattern, so all ids of one endpoint share a route.
+     */
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unmapped");
+    }
+
+    /**
+     * Breakdowns and percentiles are aggregated by the database over every matching row
+     * unless the column store replica serves them, so they cost as much as a full list.
+     */
+    RequestClass classify(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if ("GET".equals(request.getMethod())) {
+            boolean unpaged = request.getParameter("size") == null && request.getParameter("page") == null
+                    && request.getParameter("cursor") == null;
+            if (EXPORT_PATH.equals(path) || LIST_PATH.equals(path) && unpaged) {
+                return RequestClass.FULL_LIST;
+            }
+            if ((BREAKDOWN_PATH.equals(path) || PERCENTILES_PATH.equals(path)) && !columnStore.isAvailable()) {
+                return RequestClass.FULL_LIST;
+            }
+            if (LIST_PATH.equals(path) && request.getParameter("sort") != null) {
+                return RequestClass.SORTED;
+            }
+        }
+        return RequestClass.DEFAULT;
+    }
+}
@@ -0,0 +1,47 @@
+package experton.ai.employee.ratelimit;
+
+/**
+ * Cost classes with separate budgets. Full-table reads and sorted lists get lower budgets
+ * than lookups and writes. The defaults apply unless overridden under
+ * {@code employee.rate-limit.<property>}.
+ */
+public enum RequestClass {
+
+    /**
+     * Unpaged lists and exports, and breakdowns and percentiles while the column store
+     * replica is off: a full table scan per request.
+     */
+    FULL_LIST("full-list", 1, 5, 4),
+    /** Paged lists with an explicit sort order. */
+    SORTED("sorted", 20, 40, 16),
+    /** Lookups, paged lists in id order, writes and batches. */
+    DEFAULT("default", 200, 400, 64);
+
+    private final String property;
+    private final double defaultRate;
+    private final int defaultBurst;
+    private final int defaultMaxConcurrency;
+
+    RequestClass(String property, double defaultRate, int defaultBurst, int defaultMaxConcurrency) {
+        this.property = property;
+        this.defaultRate = defaultRate;
+        this.defaultBurst = defaultBurst;
+        this.defaultMaxConcurrency = defaultMaxConcurrency;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    double getDefaultRate() {
+        return defaultRate;
+    }
+
+    int getDefaultBurst() {
+        return defaultBurst;
+    }
+
+    int getDefaultMaxConcurrency() {
+        return defaultMaxConcurrency;
+    }
+}
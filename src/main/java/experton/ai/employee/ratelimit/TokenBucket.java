@@ -0,0 +1,33 @@
+package experton.ai.employee.ratelimit;
+
+/**
+ * Classic token bucket: {@code burst} tokens, refilled continuously at {@code rate} tokens
+ * per second. Refill is computed lazily on each attempt, so idle buckets cost nothing.
+ */
+final class TokenBucket {
+
+    private final double tokensPerNano;
+    private final double burst;
+    private double tokens;
+    private long refilledAt;
+
+    TokenBucket(double ratePerSecond, int burst, long now) {
+        this.tokensPerNano = ratePerSecond / 1_000_000_000d;
+        this.burst = burst;
+        this.tokens = burst;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes one token, returning zero, or the nanoseconds until one is available.
+     */
+    synchronized long tryConsume(long now) {
+        tokens = Math.min(burst, tokens + (now - refilledAt) * tokensPerNano);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens--;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / tokensPerNano);
+    }
+}
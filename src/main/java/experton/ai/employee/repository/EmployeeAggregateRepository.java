@@ -0,0 +1,27 @@
+package experton.ai.employee.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+
+/**
+ * Breakdowns and percentiles aggregated by the database, for when the column store replica is not there to
+ * scan: only the grouped rows leave the database.
+ */
+public interface EmployeeAggregateRepository {
+
+    /**
+     * Same figures as {@code EmployeeColumns#breakdown}, from one {@code GROUP BY} over the
+     * department and one over the joining year.
+     */
+    EmployeeBreakdownResponse aggregateBreakdown(EmployeeFilter filter, LocalDate today);
+
+    /**
+     * Same figures as {@code EmployeeColumns#percentiles}, with {@code PERCENTILE_CONT} over
+     * all matching salaries and then per department.
+     */
+    List<SalaryPercentilesResponse> aggregatePercentiles(EmployeeFilter filter, double[] percentiles);
+}
@@ -0,0 +1,114 @@
+package experton.ai.employee.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import experton.ai.employee.dto.DepartmentBreakdown;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.JoiningYearBreakdown;
+import experton.ai.employee.dto.SalaryPercentile;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.enums.Department;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+class EmployeeAggregateRepositoryImpl implements EmployeeAggregateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public EmployeeBreakdownResponse aggregateBreakdown(EmployeeFilter filter, LocalDate today) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("today", today);
+        List<Object[]> departmentRows = query("SELECT department, COUNT(*), COUNT(salary), SUM(salary), "
+                + "MIN(salary), MAX(salary), AVG(salary), "
+                + "AVG(CAST(DATEDIFF(DAY, date_of_joining, :today) AS DOUBLE)) "
+                + "FROM employees WHERE 1 = 1", params, filter, " GROUP BY department");
+        List<Object[]> yearRows = query("SELECT EXTRACT(YEAR FROM date_of_joining), COUNT(*), AVG(salary) "
+                + "FROM employees WHERE date_of_joining IS NOT NULL", new LinkedHashMap<>(), filter,
+                " GROUP BY EXTRACT(YEAR FROM date_of_joining) ORDER BY 1");
+
+        // The overall figures add up the department groups, the one without a department included
+        long headcount = 0;
+        long salaried = 0;
+        double total = 0;
+        List<DepartmentBreakdown> departments = new ArrayList<>();
+        for (Object[] row : departmentRows) {
+            headcount += longOf(row[1]);
+            salaried += longOf(row[2]);
+            total += row[3] != null ? doubleOf(row[3]) : 0;
+            if (row[0] != null) {
+                departments.add(new DepartmentBreakdown(Department.valueOf((String) row[0]), longOf(row[1]),
+                        doubleOf(row[3]), doubleOf(row[4]), doubleOf(row[5]), doubleOf(row[6]), doubleOf(row[7])));
+            }
+        }
+        departments.sort(Comparator.comparing(DepartmentBreakdown::getDepartment));
+
+        List<JoiningYearBreakdown> joiningYears = new ArrayList<>();
+        for (Object[] row : yearRows) {
+            joiningYears.add(new JoiningYearBreakdown(((Number) row[0]).intValue(), longOf(row[1]), doubleOf(row[2])));
+        }
+        return new EmployeeBreakdownResponse(headcount, salaried > 0 ? total : null,
+                salaried > 0 ? total / salaried : null, departments, joiningYears);
+    }
+
+    @Override
+    public List<SalaryPercentilesResponse> aggregatePercentiles(EmployeeFilter filter, double[] percentiles) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder columns = new StringBuilder("COUNT(*)");
+        for (int p = 0; p < percentiles.length; p++) {
+            columns.append(", PERCENTILE_CONT(:p").append(p).append(") WITHIN GROUP (ORDER BY salary)");
+            params.put("p" + p, percentiles[p]);
+        }
+        String from = " FROM employees WHERE salary IS NOT NULL";
+        List<Object[]> overall = query("SELECT NULL, " + columns + from, new LinkedHashMap<>(params), filter, "");
+        List<Object[]> byDepartment = query("SELECT department, " + columns + from + " AND department IS NOT NULL",
+                params, filter, " GROUP BY department");
+
+        List<SalaryPercentilesResponse> responses = new ArrayList<>();
+        for (Object[] row : overall) {
+            responses.add(toPercentiles(null, row, percentiles));
+        }
+        for (Object[] row : byDepartment) {
+            responses.add(toPercentiles(Department.valueOf((String) row[0]), row, percentiles));
+        }
+        responses.subList(1, responses.size()).sort(Comparator.comparing(SalaryPercentilesResponse::getDepartment));
+        return responses;
+    }
+
+    private static SalaryPercentilesResponse toPercentiles(Department department, Object[] row, double[] percentiles) {
+        List<SalaryPercentile> values = new ArrayList<>(percentiles.length);
+        for (int p = 0; p < percentiles.length; p++) {
+            values.add(new SalaryPercentile(percentiles[p], doubleOf(row[p + 2])));
+        }
+        return new SalaryPercentilesResponse(department, longOf(row[1]), values);
+    }
+
+    /**
+     * Runs {@code select}, which ends in a {@code WHERE} clause, narrowed by {@code filter}
+     * and followed by {@code groupBy}.
+     */
+    @SuppressWarnings("unchecked")
+    private List<Object[]> query(String select, Map<String, Object> params, EmployeeFilter filter, String groupBy) {
+        StringBuilder sql = new StringBuilder(select);
+        EmployeeFilterSql.append(sql, params, filter);
+        Query query = entityManager.createNativeQuery(sql.append(groupBy).toString());
+        params.forEach(query::setParameter);
+        return query.getResultList();
+    }
+
+    private static long longOf(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    private static Double doubleOf(Object value) {
+        return value != null ? ((Number) value).doubleValue() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package experton.ai.employee.repository;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import experton.ai.employee.model.EmployeeChange;
+
+@Repository
+public interface EmployeeChangeRepository extends JpaRepository<EmployeeChange, Long> {
+
+    List<EmployeeChange> findBySequenceGreaterThanOrderBySequenceAsc(long since, Limit limit);
+
+    /**
+     * Creates the counter row if missing, continuing from any changes already logged.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO employee_change_head (id, last_sequence) "
+            + "SELECT 1, (SELECT COALESCE(MAX(seq), 0) FROM employee_changes) "
+            + "WHERE NOT EXISTS (SELECT 1 FROM employee_change_head WHERE id = 1)",
+            nativeQuery = true)
+    int initializeHead();
+
+    /**
+     * Reserves {@code count} sequence numbers and returns the last one. The row lock taken by
+     * the update is held until the calling transaction ends, which serializes appends in
+     * commit order and keeps the value read back our own.
+     */
+    default long reserveSequences(int count) {
+        advanceHead(count);
+        return findLastSequence();
+    }
+
+    @Modifying
+    @Query(value = "UPDATE employee_change_head SET last_sequence = last_sequence + :count WHERE id = 1",
+            nativeQuery = true)
+    int advanceHead(@Param("count") int count);
+
+    @Query(value = "SELECT last_sequence FROM employee_change_head WHERE id = 1", nativeQuery = true)
+    Long findLastSequence();
+
+    @Query("select min(c.sequence) from EmployeeChange c")
+    Long findEarliestSequence();
+
+    @Modifying
+    @Transactional
+    @Query("delete from EmployeeChange c where c.changedAt < :cutoff")
+    int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,46 @@
+package experton.ai.employee.repository;
+
+import java.util.Map;
+
+import experton.ai.employee.dto.EmployeeFilter;
+
+/**
+ * SQL form of {@link EmployeeSpecifications#matches} for the queries written by hand:
+ * {@code AND} conditions over the {@code employees} columns, with named parameters.
+ */
+final class EmployeeFilterSql {
+
+    private EmployeeFilterSql() {
+    }
+
+    static void append(StringBuilder sql, Map<String, Object> params, EmployeeFilter filter) {
+        if (filter.getDepartment() != null) {
+            sql.append(" AND department = :department");
+            params.put("department", filter.getDepartment().name());
+        }
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = :status");
+            params.put("status", filter.getStatus().name());
+        }
+        if (filter.getJoinedFrom() != null) {
+            sql.append(" AND date_of_joining >= :joinedFrom");
+            params.put("joinedFrom", filter.getJoinedFrom());
+        }
+        if (filter.getJoinedTo() != null) {
+            sql.append(" AND date_of_joining <= :joinedTo");
+            params.put("joinedTo", filter.getJoinedTo());
+        }
+        if (filter.getMinSalary() != null) {
+            sql.append(" AND salary >= :minSalary");
+            params.put("minSalary", filter.getMinSalary());
+        }
+        if (filter.getMaxSalary() != null) {
+            sql.append(" AND salary <= :maxSalary");
+            params.put("maxSalary", filter.getMaxSalary());
+        }
+        if (filter.getName() != null) {
+            sql.append(" AND name LIKE :name ESCAPE '\\'");
+            params.put("name", filter.getName().replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_") + "%");
+        }
+    }
+}
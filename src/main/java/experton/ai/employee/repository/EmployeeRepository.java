@@ -1,10 +1,171 @@
 package experton.ai.employee.repository;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
 import experton.ai.employee.model.Employee;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface EmployeeRepository extends JpaRepository<Employee, Integer> {
+public interface EmployeeRepository extends JpaRepository<Employee, Integer>,
+        JpaSpecificationExecutor<Employee>, EmployeeSliceRepository, EmployeeAggregateRepository {
+
+    /**
+     * The ids among {@code ids} that belong to an employee. Nulls are skipped, {@code ids} is
+     * left as it is, and without any ids no query is issued.
+     */
+    default Set<Integer> findExistingIds(Collection<Integer> ids) {
+        List<Integer> nonNull = ids.stream().filter(Objects::nonNull).toList();
+        return nonNull.isEmpty() ? Set.of() : findIdsIn(nonNull);
+    }
+
+    @Query("select e.id from Employee e where e.id in :ids")
+    Set<Integer> findIdsIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Deletes in one statement, without loading the entity first.
+     */
+    @Modifying
+    @Query("delete from Employee e where e.id = :id")
+    int deleteEmployeeById(@Param("id") Integer id);
+
+    /**
+     * Clears the manager of everyone reporting to one of {@code ids}, bumping their versions,
+     * so those managers can be deleted without violating {@code fk_employees_manager}, and
+     * returns the updated rows. Without reports this is a single query. Only the reports
+     * found are updated: one assigned to a manager in between keeps it, and the delete that
+     * follows fails on the foreign key instead of orphaning it.
+     */
+    default List<Employee> detachReports(Collection<Integer> ids) {
+        List<Integer> reports = findReportIds(ids);
+        if (reports.isEmpty()) {
+            return List.of();
+        }
+        clearManager(reports);
+        return findAllById(reports);
+    }
+
+    @Query("select e.id from Employee e where e.managerId in :ids")
+    List<Integer> findReportIds(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Clears the persistence context afterwards, so the rows re-read by
+     * {@link #detachReports} are not served from stale entities.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Employee e set e.managerId = null, e.version = e.version + 1 where e.id in :ids")
+    int clearManager(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Everyone below {@code id} in the reporting tree, in one recursive query. {@code UNION}
+     * (not {@code UNION ALL}) makes the recursion stop even if the data already contains a
+     * cycle.
+     */
+    @Query(value = "WITH RECURSIVE subtree(id) AS ("
+            + "SELECT id FROM employees WHERE manager_id = :id "
+            + "UNION SELECT e.id FROM employees e JOIN subtree s ON e.manager_id = s.id) "
+            + "SELECT e.* FROM employees e JOIN subtree s ON e.id = s.id WHERE e.id <> :id",
+            nativeQuery = true)
+    List<Employee> findSubtree(@Param("id") Integer id);
+
+    /**
+     * Everyone above {@code id} in the reporting tree, unordered; callers order the chain by
+     * following {@code managerId}.
+     */
+    @Query(value = "WITH RECURSIVE chain(id) AS ("
+            + "SELECT manager_id FROM employees WHERE id = :id "
+            + "UNION SELECT e.manager_id FROM employees e JOIN chain c ON e.id = c.id) "
+            + "SELECT e.* FROM employees e JOIN chain c ON e.id = c.id WHERE e.id <> :id",
+            nativeQuery = true)
+    List<Employee> findChainOfCommand(@Param("id") Integer id);
+
+    @Query(value = "WITH RECURSIVE subtree(id, manager_id) AS ("
+            + "SELECT id, manager_id FROM employees WHERE manager_id = :id "
+            + "UNION SELECT e.id, e.manager_id FROM employees e JOIN subtree s ON e.manager_id = s.id) "
+            + "SELECT COUNT(*) AS total, COALESCE(SUM(CASE WHEN manager_id = :id THEN 1 ELSE 0 END), 0) AS direct "
+            + "FROM subtree WHERE id <> :id",
+            nativeQuery = true)
+    ReportCounts countReports(@Param("id") Integer id);
+
+    /**
+     * Whether {@code employeeId} is {@code managerId} itself or one of its managers, i.e.
+     * whether making {@code managerId} the manager of {@code employeeId} closes a cycle.
+     */
+    @Query(value = "WITH RECURSIVE chain(id) AS ("
+            + "SELECT CAST(:managerId AS INTEGER) "
+            + "UNION SELECT e.manager_id FROM employees e JOIN chain c ON e.id = c.id) "
+            + "SELECT COUNT(*) FROM chain WHERE id = :employeeId",
+            nativeQuery = true)
+    long countInChainOfCommand(@Param("managerId") Integer managerId, @Param("employeeId") Integer employeeId);
+
+    /**
+     * Salary aggregates per department and status. The
+     * {@code (department, status, salary)} index covers the query, so it reads the index
+     * only and never the table rows.
+     */
+    @Query(value = "SELECT department, status, COUNT(*) AS headcount, "
+            + "SUM(salary) AS total, MIN(salary) AS minimum, MAX(salary) AS maximum, AVG(salary) AS mean, "
+            + "PERCENTILE_CONT(0.5) WITHIN GROUP (ORDER BY salary) AS p50, "
+            + "PERCENTILE_CONT(0.9) WITHIN GROUP (ORDER BY salary) AS p90, "
+            + "PERCENTILE_CONT(0.99) WITHIN GROUP (ORDER BY salary) AS p99 "
+            + "FROM employees GROUP BY department, status ORDER BY department, status",
+            nativeQuery = true)
+    List<SalaryStats> findSalaryStats();
+
+    interface SalaryStats {
+        String getDepartment();
+
+        String getStatus();
+
+        long getHeadcount();
+
+        Double getTotal();
+
+        Double getMinimum();
+
+        Double getMaximum();
+
+        Double getMean();
+
+        Double getP50();
+
+        Double getP90();
+
+        Double getP99();
+    }
+
+    interface ReportCounts {
+        long getTotal();
+
+        long getDirect();
+    }
+
+    /**
+     * Streams rows straight into DTOs so nothing is held by the persistence context.
+     * Must be consumed inside a transaction and closed by the caller.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new experton.ai.employee.dto.EmployeeResponse("
+            + "e.id, e.name, e.dateOfJoining, e.status, e.department, e.salary, e.managerId, e.version) "
+            + "from Employee e "
+            + "where (:department is null or e.department = :department) "
+            + "and (:status is null or e.status = :status) "
+            + "order by e.id")
+    Stream<EmployeeResponse> streamForExport(@Param("department") Department department,
+            @Param("status") EmployeeStatus status);
 }
@@ -0,0 +1,23 @@
+package experton.ai.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.model.Employee;
+
+/**
+ * Bounded reads that push filtering, ordering and the row limit into SQL without
+ * the extra count query that {@code Page} results issue.
+ */
+public interface EmployeeSliceRepository {
+
+    /**
+     * Matching rows projected straight into responses: no entities are loaded, so nothing
+     * enters the persistence context and no per-row copy is made. A null {@code limit}
+     * reads every match.
+     */
+    List<EmployeeResponse> findResponses(Specification<Employee> spec, Sort sort, long offset, Integer limit);
+}
@@ -0,0 +1,44 @@
+package experton.ai.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.model.Employee;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+class EmployeeSliceRepositoryImpl implements EmployeeSliceRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<EmployeeResponse> findResponses(Specification<Employee> spec, Sort sort, long offset, Integer limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<EmployeeResponse> query = cb.createQuery(EmployeeResponse.class);
+        Root<Employee> root = query.from(Employee.class);
+        query.select(cb.construct(EmployeeResponse.class, root.get("id"), root.get("name"),
+                root.get("dateOfJoining"), root.get("status"), root.get("department"), root.get("salary"),
+                root.get("managerId"), root.get("version")));
+
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<EmployeeResponse> typedQuery = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset));
+        if (limit != null) {
+            typedQuery.setMaxResults(limit);
+        }
+        return typedQuery.getResultList();
+    }
+}
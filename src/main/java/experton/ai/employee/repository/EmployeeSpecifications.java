@@ -0,0 +1,92 @@
+package experton.ai.employee.repository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.model.Employee;
+import jakarta.persistence.criteria.Predicate;
+
+public final class EmployeeSpecifications {
+
+    private EmployeeSpecifications() {
+    }
+
+    /**
+     * Conjunction of every filter field that is set. Each predicate is index-friendly: plain
+     * equality, ranges and a left-anchored {@code LIKE}.
+     */
+    public static Specification<Employee> matches(EmployeeFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getDepartment() != null) {
+                predicates.add(cb.equal(root.get("department"), filter.getDepartment()));
+            }
+            if (filter.getStatus() != null) {
+                predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+            }
+            if (filter.getJoinedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("dateOfJoining"), filter.getJoinedFrom()));
+            }
+            if (filter.getJoinedTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("dateOfJoining"), filter.getJoinedTo()));
+            }
+            if (filter.getMinSalary() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("salary"), filter.getMinSalary()));
+            }
+            if (filter.getMaxSalary() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("salary"), filter.getMaxSalary()));
+            }
+            if (filter.getName() != null) {
+                predicates.add(cb.like(root.get("name"), escapeLike(filter.getName()) + "%", '\\'));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Rows with a salary, for rankings that leave missing salaries out.
+     */
+    public static Specification<Employee> hasSalary() {
+        return (root, query, cb) -> cb.isNotNull(root.get("salary"));
+    }
+
+    /**
+     * Keyset predicate for rows ordered by {@code id}: everything after the given id.
+     */
+    public static Specification<Employee> idAfter(Integer id, boolean descending) {
+        return (root, query, cb) -> descending
+                ? cb.lessThan(root.get("id"), id)
+                : cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Keyset predicate for rows ordered by {@code (salary, id)}, matching the
+     * {@code idx_employees_salary_id} index. H2 sorts NULL salaries lowest, so they come
+     * first in ascending order and last in descending order.
+     */
+    public static Specification<Employee> salaryAfter(Double salary, Integer id, boolean descending) {
+        return (root, query, cb) -> {
+            var salaryPath = root.<Double>get("salary");
+            var idPath = root.<Integer>get("id");
+
+            if (salary == null) {
+                var tie = cb.and(cb.isNull(salaryPath),
+                        descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id));
+                return descending ? tie : cb.or(tie, cb.isNotNull(salaryPath));
+            }
+
+            var tie = cb.and(cb.equal(salaryPath, salary),
+                    descending ? cb.lessThan(idPath, id) : cb.greaterThan(idPath, id));
+            return descending
+                    ? cb.or(cb.lessThan(salaryPath, salary), tie, cb.isNull(salaryPath))
+                    : cb.or(cb.greaterThan(salaryPath, salary), tie);
+        };
+    }
+}
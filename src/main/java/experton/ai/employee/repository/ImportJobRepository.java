@@ -0,0 +1,14 @@
+package experton.ai.employee.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import experton.ai.employee.enums.ImportStatus;
+import experton.ai.employee.model.ImportJob;
+
+public interface ImportJobRepository extends JpaRepository<ImportJob, String> {
+
+    List<ImportJob> findByStatusInOrderByCreatedAtAsc(Collection<ImportStatus> statuses);
+}
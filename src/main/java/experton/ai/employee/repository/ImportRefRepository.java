@@ -0,0 +1,21 @@
+package experton.ai.employee.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import experton.ai.employee.model.ImportRef;
+
+public interface ImportRefRepository extends JpaRepository<ImportRef, ImportRef.Key> {
+
+    /**
+     * H2 resolves an IN list through an index only when the listed column leads it; left to
+     * itself it picks the primary key (job_id, ref) and scans every ref of the job.
+     */
+    @Query(value = "SELECT * FROM employee_import_refs USE INDEX (idx_employee_import_refs_ref_job_id) "
+            + "WHERE ref IN (:refs) AND job_id = :jobId", nativeQuery = true)
+    List<ImportRef> findByJobIdAndRefIn(@Param("jobId") String jobId, @Param("refs") Collection<String> refs);
+}
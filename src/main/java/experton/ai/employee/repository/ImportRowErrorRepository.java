@@ -0,0 +1,13 @@
+package experton.ai.employee.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import experton.ai.employee.model.ImportRowError;
+
+public interface ImportRowErrorRepository extends JpaRepository<ImportRowError, ImportRowError.Key> {
+
+    List<ImportRowError> findByJobIdOrderByRowNumberAsc(String jobId, Limit limit);
+}
@@ -0,0 +1,331 @@
+package experton.ai.employee.repository;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import experton.ai.employee.dto.EmployeeCursor;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.enums.SortOrder;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.model.EmployeeChange;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the {@code employees} table for the reactive variant. The schema
+ * and the {@code employees_seq} sequence are still owned by the JPA mapping; this class only
+ * issues plain SQL through its own R2DBC connection pool. Writes that must commit together
+ * run through {@link #inTransaction}, on a transaction manager over that same pool.
+ * <p>
+ * The pool is deliberately not a bean: a {@code ConnectionFactory} bean would make Boot's
+ * JDBC auto-configuration back off and take the JPA side down with it.
+ */
+@Repository
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeRepository implements DisposableBean {
+
+    private static final String COLUMNS = "id, name, date_of_joining, status, department, salary, manager_id, version";
+
+    /** Matches the {@code allocationSize} of the JPA sequence generator. */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    private int nextId;
+    private int lastId = -1;
+
+    public ReactiveEmployeeRepository(@Value("${employee.reactive.r2dbc-url}") String url,
+            @Value("${spring.datasource.username:sa}") String username,
+            @Value("${spring.datasource.password:}") String password,
+            @Value("${employee.reactive.pool-size:20}") int poolSize) {
+        ConnectionFactoryOptions options = ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, username)
+                .option(ConnectionFactoryOptions.PASSWORD, password)
+                .build();
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration
+                .builder(ConnectionFactories.get(options))
+                .maxSize(poolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+        this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionPool));
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    /**
+     * Employees matching {@code filter} in the same order as the JPA path: by id when
+     * {@code sortOrder} is null, otherwise by {@code (salary, id)}. {@code after} continues
+     * from a keyset cursor; a null {@code limit} streams every row.
+     */
+    public Flux<Employee> findAll(EmployeeFilter filter, String sortOrder, EmployeeCursor after, Integer limit,
+            long offset) {
+        Map<String, Object> params = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder("SELECT ").append(COLUMNS).append(" FROM employees WHERE 1 = 1");
+        EmployeeFilterSql.append(sql, params, filter);
+
+        boolean descending = SortOrder.DESC.name().equalsIgnoreCase(sortOrder);
+        if (after != null) {
+            params.put("afterId", after.getId());
+            if (sortOrder == null) {
+                sql.append(" AND id > :afterId");
+            } else {
+                appendSalaryAfter(sql, params, after.getSalary(), descending);
+            }
+        }
+
+        String direction = descending ? " DESC" : " ASC";
+        sql.append(sortOrder == null ? " ORDER BY id" : " ORDER BY salary" + direction + ", id" + direction);
+        if (limit != null) {
+            sql.append(" LIMIT ").append(limit).append(" OFFSET ").append(offset);
+        }
+
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> param : params.entrySet()) {
+            spec = spec.bind(param.getKey(), param.getValue());
+        }
+        return spec.map(this::toEmployee).all();
+    }
+
+    public Mono<Employee> findById(Integer id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM employees WHERE id = :id")
+                .bind("id", id)
+                .map(this::toEmployee)
+                .one();
+    }
+
+    /**
+     * Same recursive query as {@link EmployeeRepository#countInChainOfCommand}.
+     */
+    public Mono<Boolean> isInChainOfCommand(Integer managerId, Integer employeeId) {
+        return databaseClient.sql("WITH RECURSIVE chain(id) AS ("
+                        + "SELECT CAST(:managerId AS INTEGER) "
+                        + "UNION SELECT e.manager_id FROM employees e JOIN chain c ON e.id = c.id) "
+                        + "SELECT COUNT(*) FROM chain WHERE id = :employeeId")
+                .bind("managerId", managerId)
+                .bind("employeeId", employeeId)
+                .map(row -> row.get(0, Long.class) > 0)
+                .one();
+    }
+
+    /**
+     * Inserts {@code employee} under a newly allocated id and returns it with the id and
+     * initial version set.
+     */
+    public Mono<Employee> insert(Employee employee) {
+        return allocateId().flatMap(id -> {
+            employee.setId(id);
+            employee.setVersion(0L);
+            return bindColumns(databaseClient.sql("INSERT INTO employees (" + COLUMNS + ") "
+                            + "VALUES (:id, :name, :dateOfJoining, :status, :department, :salary, :managerId, :version)"),
+                    employee)
+                    .fetch()
+                    .rowsUpdated()
+                    .thenReturn(employee);
+        });
+    }
+
+    /**
+     * Writes {@code employee} if the stored row is still at its version, as Hibernate's
+     * {@code @Version} check does, and bumps the version; otherwise signals an optimistic
+     * locking failure.
+     */
+    public Mono<Employee> update(Employee employee) {
+        return bindColumns(databaseClient.sql("UPDATE employees SET name = :name, date_of_joining = :dateOfJoining, "
+                        + "status = :status, department = :department, salary = :salary, manager_id = :managerId, "
+                        + "version = version + 1 WHERE id = :id AND version = :version"), employee)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> {
+                    if (rows == 0) {
+                        return Mono.error(new ObjectOptimisticLockingFailureException(Employee.class, employee.getId()));
+                    }
+                    employee.setVersion(employee.getVersion() + 1);
+                    return Mono.just(employee);
+                });
+    }
+
+    /**
+     * Clears the manager of every direct report of {@code managerId}, bumping their versions,
+     * and returns the updated rows. As in {@link EmployeeRepository#detachReports}, only the
+     * reports found are updated; they are locked when read, so the rows returned are the ones
+     * written.
+     */
+    public Flux<Employee> detachReports(Integer managerId) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM employees WHERE manager_id = :managerId FOR UPDATE")
+                .bind("managerId", managerId)
+                .map(this::toEmployee)
+                .all()
+                .collectList()
+                .flatMapMany(reports -> {
+                    if (reports.isEmpty()) {
+                        return Flux.empty();
+                    }
+                    return databaseClient.sql("UPDATE employees SET manager_id = NULL, version = version + 1 "
+                                    + "WHERE id IN (:ids)")
+                            .bind("ids", reports.stream().map(Employee::getId).toList())
+                            .fetch()
+                            .rowsUpdated()
+                            .thenMany(Flux.fromIterable(reports))
+                            .doOnNext(report -> {
+                                report.setManagerId(null);
+                                report.setVersion(report.getVersion() + 1);
+                            });
+                });
+    }
+
+    /**
+     * Deletes the employee and reports whether a row was removed.
+     */
+    public Mono<Boolean> deleteById(Integer id) {
+        return databaseClient.sql("DELETE FROM employees WHERE id = :id")
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .map(rows -> rows > 0);
+    }
+
+    /**
+     * Runs {@code work} in one R2DBC transaction: every statement it issues through this
+     * repository commits together, or rolls back if it signals an error.
+     */
+    public <T> Mono<T> inTransaction(Mono<T> work) {
+        return transactionalOperator.transactional(work);
+    }
+
+    /**
+     * Appends {@code changes} to the change log under the next sequence numbers, the R2DBC
+     * form of {@code EmployeeChangeLog}'s append. Run it inside {@link #inTransaction} with
+     * the write it records: the counter row stays locked until that transaction ends, so
+     * sequence numbers follow commit order across both stacks.
+     */
+    public Mono<Void> appendChanges(List<EmployeeChange> changes) {
+        if (changes.isEmpty()) {
+            return Mono.empty();
+        }
+        return databaseClient.sql("UPDATE employee_change_head SET last_sequence = last_sequence + :count WHERE id = 1")
+                .bind("count", changes.size())
+                .fetch()
+                .rowsUpdated()
+                .then(databaseClient.sql("SELECT last_sequence FROM employee_change_head WHERE id = 1")
+                        .map(row -> row.get(0, Long.class))
+                        .one())
+                .flatMapMany(last -> Flux.range(0, changes.size())
+                        .concatMap(i -> insertChange(changes.get(i), last - changes.size() + i + 1)))
+                .then();
+    }
+
+    private Mono<Long> insertChange(EmployeeChange change, long sequence) {
+        change.setSequence(sequence);
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql("INSERT INTO employee_changes "
+                        + "(seq, change_type, employee_id, payload, changed_at) "
+                        + "VALUES (:seq, :type, :employeeId, :payload, :changedAt)")
+                .bind("seq", sequence)
+                .bind("type", change.getType().name())
+                .bind("employeeId", change.getEmployeeId())
+                .bind("changedAt", change.getChangedAt());
+        return bindNullable(spec, "payload", change.getPayload(), String.class).fetch().rowsUpdated();
+    }
+
+    /**
+     * Hands out ids from blocks of {@link #ID_BLOCK_SIZE} taken from {@code employees_seq},
+     * the same {@code (value - 49, value]} ranges Hibernate's pooled optimizer uses, so ids
+     * never collide with ones assigned through JPA.
+     */
+    private Mono<Integer> allocateId() {
+        return Mono.defer(() -> {
+            Integer id = nextFromBlock();
+            if (id != null) {
+                return Mono.just(id);
+            }
+            return databaseClient.sql("SELECT NEXT VALUE FOR employees_seq")
+                    .map(row -> row.get(0, Long.class).intValue())
+                    .one()
+                    .map(this::startBlock);
+        });
+    }
+
+    private synchronized Integer nextFromBlock() {
+        return nextId <= lastId ? nextId++ : null;
+    }
+
+    private synchronized int startBlock(int hi) {
+        int first = Math.max(1, hi - ID_BLOCK_SIZE + 1);
+        nextId = first + 1;
+        lastId = hi;
+        return first;
+    }
+
+    /**
+     * SQL form of {@link EmployeeSpecifications#salaryAfter}, NULL salaries sorting lowest.
+     */
+    private static void appendSalaryAfter(StringBuilder sql, Map<String, Object> params, Double salary,
+            boolean descending) {
+        String idAfter = descending ? "id < :afterId" : "id > :afterId";
+        if (salary == null) {
+            sql.append(descending
+                    ? " AND salary IS NULL AND " + idAfter
+                    : " AND ((salary IS NULL AND " + idAfter + ") OR salary IS NOT NULL)");
+            return;
+        }
+        params.put("afterSalary", salary);
+        sql.append(descending
+                ? " AND (salary < :afterSalary OR (salary = :afterSalary AND " + idAfter + ") OR salary IS NULL)"
+                : " AND (salary > :afterSalary OR (salary = :afterSalary AND " + idAfter + "))");
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindColumns(DatabaseClient.GenericExecuteSpec spec,
+            Employee employee) {
+        spec = spec.bind("id", employee.getId());
+        spec = bindNullable(spec, "name", employee.getName(), String.class);
+        spec = bindNullable(spec, "dateOfJoining", employee.getDateOfJoining(), LocalDate.class);
+        spec = bindNullable(spec, "status",
+                employee.getStatus() != null ? employee.getStatus().name() : null, String.class);
+        spec = bindNullable(spec, "department",
+                employee.getDepartment() != null ? employee.getDepartment().name() : null, String.class);
+        spec = bindNullable(spec, "salary", employee.getSalary(), Double.class);
+        spec = bindNullable(spec, "managerId", employee.getManagerId(), Integer.class);
+        return spec.bind("version", employee.getVersion());
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+            String name, Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private Employee toEmployee(Readable row) {
+        String status = row.get("status", String.class);
+        String department = row.get("department", String.class);
+        return new Employee(
+                row.get("id", Integer.class),
+                row.get("name", String.class),
+                row.get("date_of_joining", LocalDate.class),
+                status != null ? EmployeeStatus.valueOf(status) : null,
+                department != null ? Department.valueOf(department) : null,
+                row.get("salary", Double.class),
+                row.get("manager_id", Integer.class),
+                row.get("version", Long.class));
+    }
+}
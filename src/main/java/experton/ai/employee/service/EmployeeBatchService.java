@@ -0,0 +1,221 @@
+package experton.ai.employee.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import experton.ai.employee.dto.BatchItemResult;
+import experton.ai.employee.dto.BatchResponse;
+import experton.ai.employee.dto.EmployeeBatchUpdateRequest;
+import experton.ai.employee.dto.EmployeeRequest;
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.BatchItemStatus;
+import experton.ai.employee.enums.ChangeType;
+import experton.ai.employee.event.EmployeeChangedEvent;
+import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Bulk variants of the single-employee writes in {@link EmployeeService}. Items are handled
+ * in chunks: manager references and target rows are resolved with one set-based query per
+ * chunk, and the persistence context is flushed and cleared after each chunk so JDBC
+ * batching applies and memory stays bounded. Invalid items are reported per index and do
+ * not prevent the valid ones from being written.
+ */
+@Service
+public class EmployeeBatchService {
+
+    /** Multiple of {@code hibernate.jdbc.batch_size}, so every flush sends full batches. */
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_BATCH_ITEMS = 100_000;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Transactional
+    public BatchResponse createEmployees(List<EmployeeRequest> requests) {
+        validateBatchSize(requests);
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+
+        for (int start = 0; start < requests.size(); start += CHUNK_SIZE) {
+            List<EmployeeRequest> chunk = requests.subList(start, Math.min(start + CHUNK_SIZE, requests.size()));
+            Set<Integer> managers = employeeRepository.findExistingIds(chunk.stream()
+                    .filter(Objects::nonNull)
+                    .map(EmployeeRequest::getManagerId)
+                    .collect(Collectors.toSet()));
+
+            List<Employee> valid = new ArrayList<>();
+            List<BatchItemResult> created = new ArrayList<>();
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = start + i;
+                if (chunk.get(i) == null) {
+                    results.add(failed(index, null, missingPayload()));
+                    continue;
+                }
+
+                Employee employee = employeeService.convertToEntity(chunk.get(i));
+                List<ValidationError> errors = employeeService.validateEmployee(employee, managers::contains);
+                if (!errors.isEmpty()) {
+                    results.add(failed(index, null, errors));
+                    continue;
+                }
+
+                BatchItemResult result = new BatchItemResult(index, null, BatchItemStatus.CREATED, null);
+                valid.add(employee);
+                created.add(result);
+                results.add(result);
+            }
+
+            employeeRepository.saveAll(valid);
+            for (int i = 0; i < valid.size(); i++) {
+                created.get(i).setId(valid.get(i).getId());
+                employeeService.publishChange(ChangeType.CREATED, valid.get(i));
+            }
+            flushAndClear();
+        }
+
+        return toResponse(results);
+    }
+
+    @Transactional
+    public BatchResponse updateEmployees(List<EmployeeBatchUpdateRequest> requests) {
+        validateBatchSize(requests);
+        List<BatchItemResult> results = new ArrayList<>(requests.size());
+
+        for (int start = 0; start < requests.size(); start += CHUNK_SIZE) {
+            List<EmployeeBatchUpdateRequest> chunk = requests.subList(start, Math.min(start + CHUNK_SIZE, requests.size()));
+            Map<Integer, Employee> employees = employeeRepository.findAllById(chunk.stream()
+                        .filter(Objects::nonNull)
+                        .map(EmployeeBatchUpdateRequest::getId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet()))
+                    .stream()
+                    .collect(Collectors.toMap(Employee::getId, Function.identity()));
+            Set<Integer> managers = employeeRepository.findExistingIds(chunk.stream()
+                    .filter(Objects::nonNull)
+                    .map(EmployeeBatchUpdateRequest::getManagerId)
+                    .collect(Collectors.toSet()));
+
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = start + i;
+                EmployeeBatchUpdateRequest request = chunk.get(i);
+                if (request == null) {
+                    results.add(failed(index, null, missingPayload()));
+                    continue;
+                }
+                if (request.getId() == null) {
+                    results.add(failed(index, null, List.of(new ValidationError("id", "Employee id is mandatory"))));
+                    continue;
+                }
+
+                Employee employee = employees.get(request.getId());
+                if (employee == null) {
+                    results.add(failed(index, request.getId(), notFound(request.getId())));
+                    continue;
+                }
+
+                List<ValidationError> errors = employeeService.applyUpdate(employee, request, managers::contains);
+                if (!errors.isEmpty()) {
+                    results.add(failed(index, request.getId(), errors));
+                    continue;
+                }
+                results.add(new BatchItemResult(index, employee.getId(), BatchItemStatus.UPDATED, null));
+                employeeService.publishChange(ChangeType.UPDATED, employee);
+            }
+
+            flushAndClear();
+        }
+
+        return toResponse(results);
+    }
+
+    @Transactional
+    public BatchResponse deleteEmployees(List<Integer> ids) {
+        validateBatchSize(ids);
+        List<BatchItemResult> results = new ArrayList<>(ids.size());
+
+        for (int start = 0; start < ids.size(); start += CHUNK_SIZE) {
+            List<Integer> chunk = ids.subList(start, Math.min(start + CHUNK_SIZE, ids.size()));
+            Set<Integer> existing = employeeRepository.findExistingIds(chunk);
+
+            for (int i = 0; i < chunk.size(); i++) {
+                int index = start + i;
+                Integer id = chunk.get(i);
+                if (id == null) {
+                    results.add(failed(index, null, List.of(new ValidationError("id", "Employee id is mandatory"))));
+                } else if (!existing.contains(id)) {
+                    results.add(failed(index, id, notFound(id)));
+                } else {
+                    results.add(new BatchItemResult(index, id, BatchItemStatus.DELETED, null));
+                    eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.DELETED, id, null));
+                }
+            }
+
+            if (!existing.isEmpty()) {
+                // Reports of deleted managers lose their manager, as the foreign key requires
+                for (Employee report : employeeRepository.detachReports(existing)) {
+                    if (!existing.contains(report.getId())) {
+                        employeeService.publishChange(ChangeType.UPDATED, report);
+                    }
+                }
+                employeeRepository.deleteAllByIdInBatch(existing);
+            }
+        }
+
+        return toResponse(results);
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void validateBatchSize(List<?> items) {
+        if (items == null || items.isEmpty() || items.size() > MAX_BATCH_ITEMS) {
+            List<ValidationError> errors = new ArrayList<>();
+            errors.add(new ValidationError("request",
+                "Batch must contain between 1 and " + MAX_BATCH_ITEMS + " items"));
+            throw new ValidationException("Invalid batch request", errors);
+        }
+    }
+
+    private BatchItemResult failed(int index, Integer id, List<ValidationError> errors) {
+        return new BatchItemResult(index, id, BatchItemStatus.FAILED, errors);
+    }
+
+    private List<ValidationError> missingPayload() {
+        return List.of(new ValidationError("request", "Employee payload is missing"));
+    }
+
+    private List<ValidationError> notFound(Integer id) {
+        return List.of(new ValidationError("id", "Employee not found with id: " + id));
+    }
+
+    private BatchResponse toResponse(List<BatchItemResult> results) {
+        int failed = (int) results.stream()
+                .filter(result -> result.getStatus() == BatchItemStatus.FAILED)
+                .count();
+        return new BatchResponse(results.size() - failed, failed, results);
+    }
+}
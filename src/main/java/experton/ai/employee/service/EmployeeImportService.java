@@ -0,0 +1,550 @@
+package experton.ai.employee.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import experton.ai.employee.dto.EmployeeRequest;
+import experton.ai.employee.dto.ImportJobResponse;
+import experton.ai.employee.dto.ImportRowErrorResponse;
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.ChangeType;
+import experton.ai.employee.enums.ImportFormat;
+import experton.ai.employee.enums.ImportStatus;
+import experton.ai.employee.exception.GlobalExceptionHandler;
+import experton.ai.employee.exception.ImportJobNotFoundException;
+import experton.ai.employee.exception.ImportUnavailableException;
+import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.model.ImportJob;
+import experton.ai.employee.model.ImportRef;
+import experton.ai.employee.model.ImportRowError;
+import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.repository.ImportJobRepository;
+import experton.ai.employee.repository.ImportRefRepository;
+import experton.ai.employee.repository.ImportRowErrorRepository;
+
+/**
+ * Asynchronous imports of employee files. The upload is streamed to a spool file while it
+ * is received, and a single background thread then imports jobs one at a time, in chunks:
+ * the rows of a chunk are parsed and validated in parallel with the rules of
+ * {@link EmployeeService#validateEmployee}, then written in one transaction together with
+ * their row errors and the job's checkpoint. A failed job resumes after its last committed
+ * chunk.
+ *
+ * <p>Besides the {@code EmployeeRequest} fields a row may carry a {@code ref}, and name
+ * another row of the same file as its manager with {@code managerRef}. Managers are written
+ * before their reports: a row whose manager is not imported yet is deferred to the next
+ * pass over the file, so files in any order import in as many passes as their hierarchy is
+ * deep. A pass that imports nothing ends the job, and the rows it deferred (unknown or
+ * failed managers, cycles) are reported as failed.
+ */
+@Service
+public class EmployeeImportService implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeImportService.class);
+
+    private static final int MAX_REPORTED_ERRORS = 100;
+    private static final int MAX_REF_LENGTH = 255;
+    private static final int MAX_FAILURE_LENGTH = 1000;
+    private static final String UPLOAD_FILE = "rows.ndjson";
+    private static final TypeReference<List<ValidationError>> ERRORS_TYPE = new TypeReference<>() {
+    };
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private ImportJobRepository importJobRepository;
+
+    @Autowired
+    private ImportRefRepository importRefRepository;
+
+    @Autowired
+    private ImportRowErrorRepository importRowErrorRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Path directory;
+    private final int chunkSize;
+    private ExecutorService executor;
+    private volatile boolean running;
+
+    public EmployeeImportService(PlatformTransactionManager transactionManager,
+            @Value("${employee.import.directory:./data/imports}") Path directory,
+            @Value("${employee.import.chunk-size:500}") int chunkSize) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.directory = directory;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Picks up the jobs that were queued or running when the application last stopped.
+     */
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "employee-import");
+            thread.setDaemon(true);
+            return thread;
+        });
+        running = true;
+        for (ImportJob job : importJobRepository.findByStatusInOrderByCreatedAtAsc(
+                List.of(ImportStatus.QUEUED, ImportStatus.RUNNING))) {
+            log.info("Resuming import {} at pass {}, row {}", job.getId(), job.getPass(), job.getPassPosition());
+            enqueue(job.getId());
+        }
+    }
+
+    /**
+     * Lets the running job finish its current chunk; it stays running and resumes on the
+     * next start.
+     */
+    @Override
+    public void stop() {
+        running = false;
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Spools {@code body} and queues its import. No transaction is open while the upload is
+     * received. Refused while the service is not running, since there is no thread to run
+     * the job on.
+     */
+    public ImportJobResponse submit(InputStream body, ImportFormat format) {
+        checkRunning();
+        String id = UUID.randomUUID().toString();
+        Path jobDirectory = directory.resolve(id);
+        long rows;
+        try {
+            Files.createDirectories(jobDirectory);
+            rows = ImportSpool.copy(body, format, jobDirectory.resolve(UPLOAD_FILE), objectMapper);
+        } catch (IOException e) {
+            deleteFiles(id);
+            throw new UncheckedIOException("Cannot spool import " + id, e);
+        } catch (RuntimeException e) {
+            deleteFiles(id);
+            throw e;
+        }
+        if (rows == 0) {
+            deleteFiles(id);
+            List<ValidationError> errors = new ArrayList<>();
+            errors.add(new ValidationError("file", "The import file contains no rows"));
+            throw new ValidationException("Invalid import file", errors);
+        }
+
+        ImportJob job = new ImportJob();
+        job.setId(id);
+        job.setFormat(format);
+        job.setStatus(ImportStatus.QUEUED);
+        job.setTotalRows(rows);
+        job.setPass(1);
+        job.setCreatedAt(Instant.now());
+        job.setUpdatedAt(job.getCreatedAt());
+        importJobRepository.save(job);
+        enqueue(id);
+        return toResponse(job, List.of());
+    }
+
+    public ImportJobResponse getJob(String id) {
+        ImportJob job = importJobRepository.findById(id).orElseThrow(() -> new ImportJobNotFoundException(id));
+        return toResponse(job, importRowErrorRepository.findByJobIdOrderByRowNumberAsc(id,
+                Limit.of(MAX_REPORTED_ERRORS)));
+    }
+
+    /**
+     * Queues a failed job again; it continues after its last committed chunk.
+     */
+    public ImportJobResponse resume(String id) {
+        checkRunning();
+        ImportJob job = importJobRepository.findById(id).orElseThrow(() -> new ImportJobNotFoundException(id));
+        if (job.getStatus() != ImportStatus.FAILED) {
+            List<ValidationError> errors = new ArrayList<>();
+            errors.add(new ValidationError("status", "Only a failed import can be resumed; this one is " + job.getStatus()));
+            throw new ValidationException("Validation failed", errors);
+        }
+        job.setStatus(ImportStatus.QUEUED);
+        job.setFailure(null);
+        job.setUpdatedAt(Instant.now());
+        importJobRepository.save(job);
+        enqueue(id);
+        return getJob(id);
+    }
+
+    private void checkRunning() {
+        if (!running) {
+            throw new ImportUnavailableException();
+        }
+    }
+
+    /**
+     * Hands a queued job to the import thread. A job that loses the race with {@link #stop}
+     * stays queued and is picked up again by the next {@link #start}.
+     */
+    private void enqueue(String id) {
+        try {
+            executor.execute(() -> run(id));
+        } catch (RejectedExecutionException e) {
+            log.info("Import {} stays queued until the next start", id);
+        }
+    }
+
+    private void run(String id) {
+        ImportJob job = importJobRepository.findById(id).orElse(null);
+        if (job == null || (job.getStatus() != ImportStatus.QUEUED && job.getStatus() != ImportStatus.RUNNING)) {
+            return;
+        }
+        try {
+            job.setStatus(ImportStatus.RUNNING);
+            job.setUpdatedAt(Instant.now());
+            importJobRepository.save(job);
+            long started = System.nanoTime();
+            while (running) {
+                if (!runPass(job)) {
+                    return;
+                }
+                if (job.getPendingRows() == 0) {
+                    break;
+                }
+                // The deferred rows become the input of the next pass
+                Path previousInput = inputFile(job);
+                job.setFinalPass(job.getPassImportedRows() == 0);
+                job.setPass(job.getPass() + 1);
+                job.setPassPosition(0);
+                job.setPassImportedRows(0);
+                job.setPendingRows(0);
+                job.setPendingBytes(0);
+                job.setUpdatedAt(Instant.now());
+                importJobRepository.save(job);
+                if (job.getPass() > 2) {
+                    Files.deleteIfExists(previousInput);
+                }
+            }
+            if (!running) {
+                return;
+            }
+            job.setStatus(ImportStatus.COMPLETED);
+            job.setUpdatedAt(Instant.now());
+            importJobRepository.save(job);
+            deleteFiles(id);
+            log.info("Imported {} of {} rows of {} in {} passes and {} ms ({} failed)", job.getImportedRows(),
+                    job.getTotalRows(), id, job.getPass(), (System.nanoTime() - started) / 1_000_000,
+                    job.getFailedRows());
+        } catch (Exception e) {
+            log.error("Import {} failed", id, e);
+            // Counters and checkpoint as of the last committed chunk
+            ImportJob failed = importJobRepository.findById(id).orElse(job);
+            failed.setStatus(ImportStatus.FAILED);
+            String message = Objects.toString(e.getMessage(), e.getClass().getName());
+            failed.setFailure(message.substring(0, Math.min(message.length(), MAX_FAILURE_LENGTH)));
+            failed.setUpdatedAt(Instant.now());
+            importJobRepository.save(failed);
+        }
+    }
+
+    /**
+     * Imports the rest of the current pass's input, appending deferred rows to the next
+     * pass's file. Returns false if the application is stopping and the pass is unfinished.
+     */
+    private boolean runPass(ImportJob job) throws IOException {
+        Path pending = pendingFile(job);
+        try (BufferedReader reader = Files.newBufferedReader(inputFile(job), StandardCharsets.UTF_8);
+                FileChannel channel = FileChannel.open(pending, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            // Rows appended by a chunk that did not commit are dropped
+            channel.truncate(job.getPendingBytes());
+            channel.position(job.getPendingBytes());
+            BufferedWriter writer = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8));
+            for (long skipped = 0; skipped < job.getPassPosition(); skipped++) {
+                reader.readLine();
+            }
+
+            List<ImportSpool.Row> chunk = new ArrayList<>(chunkSize);
+            for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+                chunk.add(ImportSpool.parse(line));
+                if (chunk.size() == chunkSize) {
+                    if (!running) {
+                        return false;
+                    }
+                    importChunk(job, chunk, writer, channel);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                importChunk(job, chunk, writer, channel);
+            }
+        }
+        return true;
+    }
+
+    private void importChunk(ImportJob job, List<ImportSpool.Row> chunk, BufferedWriter pending, FileChannel channel) {
+        List<ImportRow> rows = chunk.parallelStream().map(this::parse).toList();
+        Set<Integer> managers = employeeRepository.findExistingIds(rows.stream()
+                .filter(row -> row.employee != null)
+                .map(row -> row.employee.getManagerId())
+                .collect(Collectors.toSet()));
+        rows.parallelStream().filter(row -> row.employee != null).forEach(row -> validate(row, managers));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Integer> refs = findRefs(job.getId(), rows);
+            List<ImportRowError> errors = new ArrayList<>();
+            List<ImportRef> newRefs = new ArrayList<>();
+            List<Employee> created = new ArrayList<>();
+            List<ImportRow> waiting = new ArrayList<>();
+            for (ImportRow row : rows) {
+                if (row.errors.isEmpty()) {
+                    waiting.add(row);
+                } else {
+                    errors.add(rowError(job, row, row.errors));
+                }
+            }
+
+            // Rows of the chunk may manage each other: write every row whose manager is
+            // known, and repeat while that makes more managers known
+            boolean progress = true;
+            while (progress && !waiting.isEmpty()) {
+                progress = false;
+                for (Iterator<ImportRow> iterator = waiting.iterator(); iterator.hasNext();) {
+                    ImportRow row = iterator.next();
+                    if (row.managerRef != null) {
+                        Integer managerId = refs.get(row.managerRef);
+                        if (managerId == null) {
+                            continue;
+                        }
+                        row.employee.setManagerId(managerId);
+                    }
+                    iterator.remove();
+                    if (row.ref != null && refs.containsKey(row.ref)) {
+                        errors.add(rowError(job, row, List.of(new ValidationError("ref", "Duplicate ref: " + row.ref))));
+                        continue;
+                    }
+                    // The sequence generator assigns the id here, so reports can use it at once
+                    employeeRepository.save(row.employee);
+                    created.add(row.employee);
+                    if (row.ref != null) {
+                        refs.put(row.ref, row.employee.getId());
+                        newRefs.add(new ImportRef(job.getId(), row.ref, row.employee.getId()));
+                    }
+                    progress = true;
+                }
+            }
+
+            for (ImportRow row : waiting) {
+                if (job.isFinalPass()) {
+                    errors.add(rowError(job, row,
+                            List.of(new ValidationError("managerRef", "Manager not found with ref: " + row.managerRef))));
+                } else {
+                    writePending(pending, row);
+                }
+            }
+            if (!job.isFinalPass() && !waiting.isEmpty()) {
+                job.setPendingBytes(flushPending(pending, channel));
+                job.setPendingRows(job.getPendingRows() + waiting.size());
+            }
+
+            importRefRepository.saveAll(newRefs);
+            importRowErrorRepository.saveAll(errors);
+            created.forEach(employee -> employeeService.publishChange(ChangeType.CREATED, employee));
+            job.setPassPosition(job.getPassPosition() + rows.size());
+            job.setPassImportedRows(job.getPassImportedRows() + created.size());
+            job.setImportedRows(job.getImportedRows() + created.size());
+            job.setFailedRows(job.getFailedRows() + errors.size());
+            job.setUpdatedAt(Instant.now());
+            importJobRepository.save(job);
+        });
+    }
+
+    /**
+     * Reads one row into an employee; a row that does not convert carries its errors instead.
+     */
+    private ImportRow parse(ImportSpool.Row spooled) {
+        ImportRow row = new ImportRow(spooled);
+        try {
+            if (!(objectMapper.readTree(spooled.json()) instanceof ObjectNode fields)) {
+                row.errors.add(new ValidationError("request", "Each row must be an employee object"));
+                return row;
+            }
+            row.ref = text(fields.remove("ref"));
+            row.managerRef = text(fields.remove("managerRef"));
+            row.employee = employeeService.convertToEntity(objectMapper.treeToValue(fields, EmployeeRequest.class));
+        } catch (JsonProcessingException e) {
+            row.errors.add(GlobalExceptionHandler.formatError(e));
+        }
+        return row;
+    }
+
+    private void validate(ImportRow row, Set<Integer> managers) {
+        row.errors.addAll(employeeService.validateEmployee(row.employee, managers::contains));
+        if (row.ref != null && row.ref.length() > MAX_REF_LENGTH) {
+            row.errors.add(new ValidationError("ref", "ref must be at most " + MAX_REF_LENGTH + " characters"));
+        }
+        if (row.managerRef != null && row.employee.getManagerId() != null) {
+            row.errors.add(new ValidationError("managerRef", "Provide either managerId or managerRef, not both"));
+        }
+    }
+
+    /**
+     * The employees already created in this job for the refs the chunk declares or names.
+     */
+    private Map<String, Integer> findRefs(String jobId, List<ImportRow> rows) {
+        Set<String> refs = rows.stream()
+                .filter(row -> row.errors.isEmpty())
+                .flatMap(row -> Stream.of(row.ref, row.managerRef))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Integer> found = new HashMap<>();
+        if (!refs.isEmpty()) {
+            importRefRepository.findByJobIdAndRefIn(jobId, refs)
+                    .forEach(ref -> found.put(ref.getRef(), ref.getEmployeeId()));
+        }
+        return found;
+    }
+
+    private ImportRowError rowError(ImportJob job, ImportRow row, List<ValidationError> errors) {
+        try {
+            return new ImportRowError(job.getId(), row.number, row.ref, objectMapper.writeValueAsString(errors));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void writePending(BufferedWriter pending, ImportRow row) {
+        try {
+            ImportSpool.write(pending, new ImportSpool.Row(row.number, row.json));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Makes the deferred rows durable before the chunk commits, and returns the file length
+     * to record in the checkpoint.
+     */
+    private static long flushPending(BufferedWriter pending, FileChannel channel) {
+        try {
+            pending.flush();
+            channel.force(false);
+            return channel.position();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ImportJobResponse toResponse(ImportJob job, List<ImportRowError> errors) {
+        List<ImportRowErrorResponse> rowErrors = new ArrayList<>(errors.size());
+        for (ImportRowError error : errors) {
+            try {
+                rowErrors.add(new ImportRowErrorResponse(error.getRowNumber(), error.getRef(),
+                        objectMapper.readValue(error.getErrors(), ERRORS_TYPE)));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return new ImportJobResponse(job.getId(), job.getFormat(), job.getStatus(), job.getTotalRows(),
+                job.getImportedRows(), job.getFailedRows(),
+                job.getTotalRows() - job.getImportedRows() - job.getFailedRows(), job.getPass(), job.getFailure(),
+                job.getCreatedAt(), job.getUpdatedAt(), rowErrors);
+    }
+
+    private Path inputFile(ImportJob job) {
+        return job.getPass() == 1 ? directory.resolve(job.getId()).resolve(UPLOAD_FILE) : passFile(job.getId(), job.getPass());
+    }
+
+    private Path pendingFile(ImportJob job) {
+        return passFile(job.getId(), job.getPass() + 1);
+    }
+
+    private Path passFile(String id, int pass) {
+        return directory.resolve(id).resolve("pass-" + pass + ".ndjson");
+    }
+
+    private void deleteFiles(String id) {
+        Path jobDirectory = directory.resolve(id);
+        if (!Files.exists(jobDirectory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(jobDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        } catch (IOException e) {
+            log.warn("Cannot delete the files of import {}", id, e);
+        }
+    }
+
+    private static String text(JsonNode node) {
+        if (node == null || node.isNull()) {
+            return null;
+        }
+        String text = node.asText().strip();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static final class ImportRow {
+        private final long number;
+        private final String json;
+        private final List<ValidationError> errors = new ArrayList<>();
+        private String ref;
+        private String managerRef;
+        private Employee employee;
+
+        private ImportRow(ImportSpool.Row spooled) {
+            this.number = spooled.number();
+            this.json = spooled.json();
+        }
+    }
+}
@@ -1,168 +1,429 @@
 package experton.ai.employee.service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.Set;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.cache.EmployeeCache;
+import experton.ai.employee.dto.EmployeeCursor;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeePage;
 import experton.ai.employee.dto.EmployeeRequest;
 import experton.ai.employee.dto.EmployeeResponse;
 import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.AllowedValues;
+import experton.ai.employee.enums.ChangeType;
 import experton.ai.employee.enums.Department;
 import experton.ai.employee.enums.EmployeeStatus;
 import experton.ai.employee.enums.SortOrder;
+import experton.ai.employee.event.EmployeeChangedEvent;
+import experton.ai.employee.exception.EmployeeNotFoundException;
+import experton.ai.employee.exception.PreconditionFailedException;
 import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.metrics.RequestProfile;
 import experton.ai.employee.model.Employee;
 import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.repository.EmployeeSpecifications;
 
 @Service
 public class EmployeeService {
 
+    private static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 1000;
+    private static final int EXPORT_FLUSH_INTERVAL = 1000;
+    private static final String MANAGER_FOREIGN_KEY = "FK_EMPLOYEES_MANAGER";
+
     @Autowired
     private EmployeeRepository employeeRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeCache employeeCache;
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
     public Employee saveEmployee(Employee employee) {
-        List<ValidationError> errors = validateEmployee(employee);
+        // The manager reference is checked by the foreign key when the row is written
+        long validationStarted = RequestProfile.startTimer();
+        List<ValidationError> errors = validateEmployee(employee, managerId -> true);
+        RequestProfile.recordValidation(validationStarted);
         if (!errors.isEmpty()) {
             throw new ValidationException("Validation failed", errors);
         }
-        return employeeRepository.save(employee);
+        Employee savedEmployee = saveAndFlush(employee);
+        publishChange(ChangeType.CREATED, savedEmployee);
+        return savedEmployee;
+    }
+
+    public List<EmployeeResponse> getAllEmployees(String sortOrder, EmployeeFilter filter) {
+        validateSortOrder(sortOrder);
+        validateFilter(filter);
+
+        if (columnStore.isAvailable()) {
+            return columnStore.findResponses(filter, sortOrder);
+        }
+        return employeeRepository.findResponses(EmployeeSpecifications.matches(filter), toSort(sortOrder), 0, null);
+    }
+
+    public EmployeePage getEmployeesPage(String sortOrder, EmployeeFilter filter, Integer size, Integer page,
+            String cursor) {
+        validateSortOrder(sortOrder);
+        validateFilter(filter);
+        EmployeeCursor after = validatePaging(sortOrder, size, page, cursor);
+
+        int pageSize = resolvePageSize(size);
+        int pageNumber = page != null ? page : 0;
+        boolean descending = SortOrder.DESC.name().equalsIgnoreCase(sortOrder);
+
+        Specification<Employee> spec = EmployeeSpecifications.matches(filter);
+        if (after != null) {
+            spec = spec.and(sortOrder != null
+                    ? EmployeeSpecifications.salaryAfter(after.getSalary(), after.getId(), descending)
+                    : EmployeeSpecifications.idAfter(after.getId(), false));
+        }
+
+        // Fetch one extra row to learn whether another page exists without a count query
+        long offset = after != null ? 0 : (long) pageNumber * pageSize;
+        List<EmployeeResponse> employees = employeeRepository.findResponses(spec, toSort(sortOrder), offset,
+                pageSize + 1);
+        return toPage(employees, sortOrder, pageSize, pageNumber, after != null);
+    }
+
+    /**
+     * Checks the paging parameters and decodes the cursor, if any.
+     */
+    EmployeeCursor validatePaging(String sortOrder, Integer size, Integer page, String cursor) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (size != null && (size < 1 || size > MAX_PAGE_SIZE)) {
+            errors.add(new ValidationError("size", "Page size must be between 1 and " + MAX_PAGE_SIZE));
+        }
+        if (page != null && page < 0) {
+            errors.add(new ValidationError("page", "Page number must not be negative"));
+        }
+        if (page != null && cursor != null) {
+            errors.add(new ValidationError("cursor", "Use either page or cursor, not both"));
+        }
+        EmployeeCursor after = cursor != null ? decodeCursor(cursor, sortOrder, errors) : null;
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Invalid paging parameters", errors);
+        }
+        return after;
+    }
+
+    /**
+     * Builds a page from up to {@code pageSize + 1} rows; the extra row only signals that a
+     * next page exists.
+     */
+    EmployeePage toPage(List<EmployeeResponse> employees, String sortOrder, int pageSize, int pageNumber,
+            boolean keyset) {
+        boolean hasNext = employees.size() > pageSize;
+        if (hasNext) {
+            employees = employees.subList(0, pageSize);
+        }
+
+        String nextCursor = null;
+        Integer nextPage = null;
+        if (hasNext) {
+            EmployeeResponse last = employees.get(employees.size() - 1);
+            nextCursor = new EmployeeCursor(normalizeSortOrder(sortOrder), last.getSalary(), last.getId()).encode();
+            if (!keyset) {
+                nextPage = pageNumber + 1;
+            }
+        }
+
+        return new EmployeePage(employees, nextCursor, nextPage);
+    }
+
+    int resolvePageSize(Integer size) {
+        return size != null ? size : DEFAULT_PAGE_SIZE;
+    }
+
+    /**
+     * Writes every matching employee to {@code out} as it is read from a JDBC cursor, either
+     * as newline-delimited JSON or as a single JSON array, so heap use does not grow with
+     * the table.
+     */
+    @Transactional(readOnly = true)
+    public void exportEmployees(Department department, EmployeeStatus status, boolean jsonArray,
+            OutputStream out) throws IOException {
+        try (Stream<EmployeeResponse> rows = employeeRepository.streamForExport(department, status);
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            if (jsonArray) {
+                generator.writeStartArray();
+            } else {
+                generator.setRootValueSeparator(null);
+            }
+
+            Iterator<EmployeeResponse> iterator = rows.iterator();
+            int written = 0;
+            while (iterator.hasNext()) {
+                generator.writeObject(iterator.next());
+                if (!jsonArray) {
+                    generator.writeRaw('\n');
+                }
+                if (++written % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+
+            if (jsonArray) {
+                generator.writeEndArray();
+            }
+        }
     }
 
-    public List<EmployeeResponse> getAllEmployees(String sortOrder) {
+    void validateSortOrder(String sortOrder) {
         if (sortOrder != null && !SortOrder.isValid(sortOrder)) {
             List<ValidationError> errors = new ArrayList<>();
             errors.add(new ValidationError("sort", 
                 "Invalid sort order. Allowed values are: " + 
-                Arrays.stream(SortOrder.values())
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "))));
+                AllowedValues.of(SortOrder.class)));
             throw new ValidationException("Invalid sort parameter", errors);
         }
-        
-        List<Employee> employees = employeeRepository.findAll();
-        
-        if (sortOrder != null) {
-            employees = sortEmployeesBySalary(employees, sortOrder);
+    }
+
+    void validateFilter(EmployeeFilter filter) {
+        List<ValidationError> errors = new ArrayList<>();
+        if (filter.getMinSalary() != null && filter.getMaxSalary() != null
+                && filter.getMinSalary() > filter.getMaxSalary()) {
+            errors.add(new ValidationError("minSalary", "minSalary must not be greater than maxSalary"));
+        }
+        if (filter.getJoinedFrom() != null && filter.getJoinedTo() != null
+                && filter.getJoinedFrom().isAfter(filter.getJoinedTo())) {
+            errors.add(new ValidationError("joinedFrom", "joinedFrom must not be after joinedTo"));
+        }
+        if (filter.getName() != null && filter.getName().isBlank()) {
+            errors.add(new ValidationError("name", "Name prefix must not be blank"));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Invalid filter parameters", errors);
         }
-        
-        return employees.stream()
-                .map(this::convertToEmployeeResponse)
-                .collect(Collectors.toList());
     }
 
-    private List<Employee> sortEmployeesBySalary(List<Employee> employees, String sortOrder) {
-        Comparator<Employee> salaryComparator = Comparator.comparing(Employee::getSalary);
-        
-        if (SortOrder.DESC.name().equalsIgnoreCase(sortOrder)) {
-            salaryComparator = salaryComparator.reversed();
+    private EmployeeCursor decodeCursor(String cursor, String sortOrder, List<ValidationError> errors) {
+        try {
+            EmployeeCursor decoded = EmployeeCursor.decode(cursor);
+            if (!Objects.equals(decoded.getSort(), normalizeSortOrder(sortOrder))) {
+                errors.add(new ValidationError("cursor", "Cursor was issued for a different sort order"));
+                return null;
+            }
+            return decoded;
+        } catch (IllegalArgumentException e) {
+            errors.add(new ValidationError("cursor", "Invalid cursor"));
+            return null;
         }
-        
-        return employees.stream()
-                .sorted(salaryComparator)
-                .collect(Collectors.toList());
+    }
+
+    private String normalizeSortOrder(String sortOrder) {
+        return sortOrder == null ? null : sortOrder.toUpperCase();
+    }
+
+    /**
+     * Salary sorts use {@code id} as a tie-breaker in the same direction so the order is
+     * total and matches the {@code (salary, id)} index used for keyset paging.
+     */
+    private Sort toSort(String sortOrder) {
+        if (sortOrder == null) {
+            return Sort.by("id");
+        }
+        Sort.Direction direction = SortOrder.DESC.name().equalsIgnoreCase(sortOrder)
+                ? Sort.Direction.DESC
+                : Sort.Direction.ASC;
+        return Sort.by(direction, "salary", "id");
+    }
+
+    /**
+     * The order of {@link #toSort}, for rows already read: missing salaries are lowest, as
+     * in the database.
+     */
+    static Comparator<EmployeeResponse> listOrder(String sortOrder) {
+        if (sortOrder == null) {
+            return Comparator.comparing(EmployeeResponse::getId);
+        }
+        Comparator<EmployeeResponse> ascending = Comparator
+                .comparing(EmployeeResponse::getSalary, Comparator.nullsFirst(Comparator.naturalOrder()))
+                .thenComparing(EmployeeResponse::getId);
+        return SortOrder.DESC.name().equalsIgnoreCase(sortOrder) ? ascending.reversed() : ascending;
     }
 
     public Optional<EmployeeResponse> getEmployeeById(Integer id) {
-        return employeeRepository.findById(id)
-                .map(this::convertToEmployeeResponse);
+        return employeeCache.get(id, () -> employeeRepository.findById(id)
+                .map(this::convertToEmployeeResponse));
     }
 
+    /**
+     * Deletes the employee with one statement. Its direct reports lose their manager first,
+     * which the foreign key requires, and are logged as updated.
+     */
+    @Transactional
     public void deleteEmployee(Integer id) {
-        if (!employeeRepository.existsById(id)) {
-            List<ValidationError> errors = new ArrayList<>();
-            errors.add(new ValidationError("id", "Employee not found with id: " + id));
-            throw new ValidationException("Employee not found", errors);
+        List<Employee> reports = employeeRepository.detachReports(List.of(id));
+        if (employeeRepository.deleteEmployeeById(id) == 0) {
+            throw new EmployeeNotFoundException(id);
         }
-        employeeRepository.deleteById(id);
+        reports.forEach(report -> publishChange(ChangeType.UPDATED, report));
+        eventPublisher.publishEvent(new EmployeeChangedEvent(ChangeType.DELETED, id, null));
     }
 
+    @Transactional
     public Employee updateEmployee(Integer id, EmployeeRequest request) {
-        Employee employee = employeeRepository.findById(id)
-                .orElseThrow(() -> {
-                    List<ValidationError> errors = new ArrayList<>();
-                    errors.add(new ValidationError("id", "Employee not found with id: " + id));
-                    return new ValidationException("Employee not found", errors);
-                });
+        return updateEmployee(id, request, null);
+    }
 
-        List<ValidationError> errors = new ArrayList<>();
+    /**
+     * Applies {@code request} only if the stored version is one of {@code expectedVersions}
+     * (any version when null). A concurrent update that lands between the read and the write
+     * fails the save with an optimistic locking error instead of being overwritten.
+     */
+    @Transactional
+    public Employee updateEmployee(Integer id, EmployeeRequest request, Set<Long> expectedVersions) {
+        Employee employee = employeeRepository.findById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+        checkVersion(employee, expectedVersions);
+        Long version = employee.getVersion();
 
-        // Update and validate name
-        if (request.getName() != null) {
-            if (request.getName().trim().isEmpty()) {
-                errors.add(new ValidationError("name", "Employee name cannot be empty"));
-            } else {
-                employee.setName(request.getName());
-            }
+        long validationStarted = RequestProfile.startTimer();
+        List<ValidationError> errors = applyUpdate(employee, request, managerId -> true);
+        RequestProfile.recordValidation(validationStarted);
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Validation failed", errors);
         }
 
-        // Update and validate dateOfJoining
-        if (request.getDateOfJoining() != null) {
-            employee.setDateOfJoining(request.getDateOfJoining());
+        // The loaded entity is managed, so the flush writes only if a field changed; flushing
+        // now runs the version and manager checks here and the response carries the new version
+        Employee savedEmployee = saveAndFlush(employee);
+        // An update that changed nothing left the version as it was and is not logged
+        if (!savedEmployee.getVersion().equals(version)) {
+            publishChange(ChangeType.UPDATED, savedEmployee);
         }
+        return savedEmployee;
+    }
 
-        // Update and validate status
-        if (request.getStatus() != null) {
-            try {
-                employee.setStatus(request.getStatus());
-            } catch (IllegalArgumentException e) {
-                String allowedValues = Arrays.stream(EmployeeStatus.values())
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "));
-                errors.add(new ValidationError("status", 
-                    "Invalid status. Allowed values are: " + allowedValues));
-            }
+    void checkVersion(Employee employee, Set<Long> expectedVersions) {
+        if (expectedVersions != null && !expectedVersions.contains(employee.getVersion())) {
+            List<ValidationError> errors = new ArrayList<>();
+            errors.add(new ValidationError("If-Match",
+                    "Employee " + employee.getId() + " is at version " + employee.getVersion()));
+            throw new PreconditionFailedException("Precondition failed", errors);
         }
+    }
 
-        // Update and validate department
-        if (request.getDepartment() != null) {
-            try {
-                employee.setDepartment(request.getDepartment());
-            } catch (IllegalArgumentException e) {
-                String allowedValues = Arrays.stream(Department.values())
-                    .map(Enum::name)
-                    .collect(Collectors.joining(", "));
-                errors.add(new ValidationError("department", 
-                    "Invalid department. Allowed values are: " + allowedValues));
-            }
+    /**
+     * Validates {@code request} and, only if it is valid, copies its non-null fields onto
+     * {@code employee}. The entity is left untouched when errors are returned: the
+     * reporting-cycle query flushes the persistence context, which would otherwise write the
+     * fields already copied.
+     */
+    List<ValidationError> applyUpdate(Employee employee, EmployeeRequest request, Predicate<Integer> managerExists) {
+        return applyUpdate(employee, request, managerExists,
+                (employeeId, managerId) -> employeeRepository.countInChainOfCommand(managerId, employeeId) > 0);
+    }
+
+    /**
+     * As above, with the reporting-cycle check supplied by the caller; {@code createsCycle}
+     * receives the employee id and the requested manager id.
+     */
+    List<ValidationError> applyUpdate(Employee employee, EmployeeRequest request, Predicate<Integer> managerExists,
+            BiPredicate<Integer, Integer> createsCycle) {
+        Integer id = employee.getId();
+        List<ValidationError> errors = new ArrayList<>();
+
+        // Validate name
+        if (request.getName() != null && request.getName().trim().isEmpty()) {
+            errors.add(new ValidationError("name", "Employee name cannot be empty"));
         }
 
-        // Update and validate salary
-        if (request.getSalary() != null) {
-            if (request.getSalary() < 0) {
-                errors.add(new ValidationError("salary", 
-                    "Salary must be a positive number"));
-            } else {
-                employee.setSalary(request.getSalary());
-            }
+        // Validate salary
+        if (request.getSalary() != null && request.getSalary() < 0) {
+            errors.add(new ValidationError("salary", 
+                "Salary must be a positive number"));
         }
 
-        // Update and validate managerId
+        // Validate managerId
         if (request.getManagerId() != null) {
             if (request.getManagerId().equals(id)) {
                 errors.add(new ValidationError("managerId", 
                     "Employee cannot be their own manager"));
-            } else if (!employeeRepository.existsById(request.getManagerId())) {
+            } else if (!managerExists.test(request.getManagerId())) {
                 errors.add(new ValidationError("managerId", 
                     "Manager not found with id: " + request.getManagerId()));
-            } else {
-                employee.setManagerId(request.getManagerId());
+            } else if (!request.getManagerId().equals(employee.getManagerId())
+                    && createsCycle.test(id, request.getManagerId())) {
+                errors.add(new ValidationError("managerId", 
+                    "Employee " + id + " already manages " + request.getManagerId()
+                    + " directly or indirectly; this would create a reporting cycle"));
             }
         }
 
         if (!errors.isEmpty()) {
-            throw new ValidationException("Validation failed", errors);
+            return errors;
         }
 
-        return employeeRepository.save(employee);
+        if (request.getName() != null) {
+            employee.setName(request.getName());
+        }
+        if (request.getDateOfJoining() != null) {
+            employee.setDateOfJoining(request.getDateOfJoining());
+        }
+        if (request.getStatus() != null) {
+            employee.setStatus(request.getStatus());
+        }
+        if (request.getDepartment() != null) {
+            employee.setDepartment(request.getDepartment());
+        }
+        if (request.getSalary() != null) {
+            employee.setSalary(request.getSalary());
+        }
+        if (request.getManagerId() != null) {
+            employee.setManagerId(request.getManagerId());
+        }
+        return errors;
+    }
+
+    public Employee convertToEntity(EmployeeRequest request) {
+        Employee employee = new Employee();
+        employee.setName(request.getName());
+        employee.setDateOfJoining(request.getDateOfJoining());
+        employee.setStatus(request.getStatus());
+        employee.setDepartment(request.getDepartment());
+        employee.setSalary(request.getSalary());
+        employee.setManagerId(request.getManagerId());
+        return employee;
+    }
+
+    void publishChange(ChangeType type, Employee employee) {
+        eventPublisher.publishEvent(new EmployeeChangedEvent(type, employee.getId(), convertToEmployeeResponse(employee)));
     }
 
-    private EmployeeResponse convertToEmployeeResponse(Employee employee) {
+    EmployeeResponse convertToEmployeeResponse(Employee employee) {
         return new EmployeeResponse(
             employee.getId(),
             employee.getName(),
@@ -170,11 +431,38 @@ public class EmployeeService {
             employee.getStatus(),
             employee.getDepartment(),
             employee.getSalary(),
-            employee.getManagerId()
+            employee.getManagerId(),
+            employee.getVersion()
         );
     }
 
-    private List<ValidationError> validateEmployee(Employee employee) {
+    /**
+     * Writes {@code employee} immediately and reports a violated manager foreign key as a
+     * validation error on {@code managerId}.
+     */
+    private Employee saveAndFlush(Employee employee) {
+        try {
+            return employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw translateManagerViolation(e, employee.getManagerId());
+        }
+    }
+
+    /**
+     * The validation error for a write rejected by {@code fk_employees_manager}; any other
+     * integrity violation is returned unchanged.
+     */
+    RuntimeException translateManagerViolation(DataIntegrityViolationException e, Integer managerId) {
+        String message = e.getMostSpecificCause().getMessage();
+        if (message == null || !message.toUpperCase().contains(MANAGER_FOREIGN_KEY)) {
+            return e;
+        }
+        List<ValidationError> errors = new ArrayList<>();
+        errors.add(new ValidationError("managerId", "Manager not found with id: " + managerId));
+        return new ValidationException("Validation failed", errors);
+    }
+
+    List<ValidationError> validateEmployee(Employee employee, Predicate<Integer> managerExists) {
         List<ValidationError> errors = new ArrayList<>();
 
         // Validate name
@@ -190,20 +478,14 @@ public class EmployeeService {
 
         // Validate status
         if (employee.getStatus() == null) {
-            String allowedValues = Arrays.stream(EmployeeStatus.values())
-                .map(Enum::name)
-                .collect(Collectors.joining(", "));
             errors.add(new ValidationError("status", 
-                "Employee status is mandatory. Allowed values are: " + allowedValues));
+                "Employee status is mandatory. Allowed values are: " + AllowedValues.of(EmployeeStatus.class)));
         }
 
         // Validate department
         if (employee.getDepartment() == null) {
-            String allowedValues = Arrays.stream(Department.values())
-                .map(Enum::name)
-                .collect(Collectors.joining(", "));
             errors.add(new ValidationError("department", 
-                "Department is mandatory. Allowed values are: " + allowedValues));
+                "Department is mandatory. Allowed values are: " + AllowedValues.of(Department.class)));
         }
 
         // Validate salary if provided
@@ -217,7 +499,7 @@ public class EmployeeService {
             if (employee.getId() != null && employee.getManagerId().equals(employee.getId())) {
                 errors.add(new ValidationError("managerId", 
                     "Employee cannot be their own manager"));
-            } else if (!employeeRepository.existsById(employee.getManagerId())) {
+            } else if (!managerExists.test(employee.getManagerId())) {
                 errors.add(new ValidationError("managerId", 
                     "Manager not found with id: " + employee.getManagerId()));
             }
@@ -0,0 +1,137 @@
+package experton.ai.employee.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.dto.SalaryStatsResponse;
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.enums.SortOrder;
+import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.repository.EmployeeSpecifications;
+
+@Service
+public class EmployeeStatsService {
+
+    private static final int DEFAULT_TOP_LIMIT = 10;
+    private static final int MAX_TOP_LIMIT = 1000;
+    private static final List<Double> DEFAULT_PERCENTILES = List.of(0.5, 0.9, 0.99);
+    private static final int MAX_PERCENTILES = 20;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    @Transactional(readOnly = true)
+    public List<SalaryStatsResponse> getSalaryStats() {
+        return employeeRepository.findSalaryStats().stream()
+                .map(stats -> new SalaryStatsResponse(
+                    Department.valueOf(stats.getDepartment()),
+                    EmployeeStatus.valueOf(stats.getStatus()),
+                    stats.getHeadcount(),
+                    stats.getTotal(),
+                    stats.getMinimum(),
+                    stats.getMaximum(),
+                    stats.getMean(),
+                    stats.getP50(),
+                    stats.getP90(),
+                    stats.getP99()
+                ))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Department and joining-year breakdown of the matching employees, scanned from the
+     * column store when it is available, otherwise grouped by the database.
+     */
+    public EmployeeBreakdownResponse getBreakdown(EmployeeFilter filter) {
+        employeeService.validateFilter(filter);
+        if (columnStore.isAvailable()) {
+            return columnStore.breakdown(filter);
+        }
+        return employeeRepository.aggregateBreakdown(filter, LocalDate.now());
+    }
+
+    /**
+     * The {@code limit} matching employees with the highest salary, or the lowest with an
+     * ascending sort order, in the order of the salary-sorted list. Employees without a
+     * salary are left out. Selected from the column store when it is available, otherwise
+     * with {@code ORDER BY salary, id ... LIMIT} on the {@code (salary, id)} index.
+     */
+    public List<EmployeeResponse> getTopSalaries(EmployeeFilter filter, Integer limit, String sortOrder) {
+        int size = resolveTopLimit(filter, limit, sortOrder);
+        boolean highest = !SortOrder.ASC.name().equalsIgnoreCase(sortOrder);
+        if (columnStore.isAvailable()) {
+            return columnStore.top(filter, size, highest);
+        }
+        Sort sort = Sort.by(highest ? Sort.Direction.DESC : Sort.Direction.ASC, "salary", "id");
+        return employeeRepository.findResponses(
+                EmployeeSpecifications.matches(filter).and(EmployeeSpecifications.hasSalary()), sort, 0, size);
+    }
+
+    /**
+     * Checks the parameters of {@link #getTopSalaries} and returns the number of employees
+     * to select.
+     */
+    int resolveTopLimit(EmployeeFilter filter, Integer limit, String sortOrder) {
+        employeeService.validateSortOrder(sortOrder);
+        employeeService.validateFilter(filter);
+        if (limit != null && (limit < 1 || limit > MAX_TOP_LIMIT)) {
+            List<ValidationError> errors = new ArrayList<>();
+            errors.add(new ValidationError("limit", "Limit must be between 1 and " + MAX_TOP_LIMIT));
+            throw new ValidationException("Invalid limit parameter", errors);
+        }
+        return limit != null ? limit : DEFAULT_TOP_LIMIT;
+    }
+
+    /**
+     * Salary percentiles of the matching employees, first overall and then per department.
+     * Selected from the column store when it is available, otherwise computed by the
+     * database with {@code PERCENTILE_CONT}.
+     */
+    public List<SalaryPercentilesResponse> getSalaryPercentiles(EmployeeFilter filter, List<Double> percentiles) {
+        employeeService.validateFilter(filter);
+        double[] requested = resolvePercentiles(percentiles);
+        if (columnStore.isAvailable()) {
+            return columnStore.percentiles(filter, requested);
+        }
+        return employeeRepository.aggregatePercentiles(filter, requested);
+    }
+
+    /**
+     * Checks the requested percentiles, defaulting to the median, 90th and 99th.
+     */
+    double[] resolvePercentiles(List<Double> percentiles) {
+        List<Double> requested = percentiles != null && !percentiles.isEmpty() ? percentiles : DEFAULT_PERCENTILES;
+        List<ValidationError> errors = new ArrayList<>();
+        if (requested.size() > MAX_PERCENTILES) {
+            errors.add(new ValidationError("p", "At most " + MAX_PERCENTILES + " percentiles can be requested"));
+        }
+        if (requested.stream().anyMatch(p -> p == null || !(p >= 0 && p <= 1))) {
+            errors.add(new ValidationError("p", "Percentiles must be between 0 and 1"));
+        }
+        if (!errors.isEmpty()) {
+            throw new ValidationException("Invalid percentile parameters", errors);
+        }
+        return requested.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,174 @@
+package experton.ai.employee.service;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.ImportFormat;
+import experton.ai.employee.exception.ValidationException;
+
+/**
+ * Spool files of an import job: one row per line, as its 1-based row number, a tab and the
+ * row as a JSON object. Uploads in every format are copied into this form while they are
+ * received, so later passes only ever read lines, and the rows a pass defers are appended
+ * to the next pass's file in the same form. Only the rows being parsed are held in memory.
+ */
+final class ImportSpool {
+
+    private ImportSpool() {
+    }
+
+    record Row(long number, String json) {
+    }
+
+    static Row parse(String line) {
+        int tab = line.indexOf('\t');
+        return new Row(Long.parseLong(line, 0, tab, 10), line.substring(tab + 1));
+    }
+
+    static void write(Writer writer, Row row) throws IOException {
+        writer.write(Long.toString(row.number()));
+        writer.write('\t');
+        writer.write(row.json());
+        writer.write('\n');
+    }
+
+    /**
+     * Copies an upload into a spool file and returns its number of rows. A body that cannot
+     * be split into rows at all (a JSON body that is not an array, a CSV without header) is
+     * rejected; a row that does not parse is spooled as is and fails on its own later.
+     */
+    static long copy(InputStream in, ImportFormat format, Path file, ObjectMapper objectMapper) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            return switch (format) {
+                case CSV -> copyCsv(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), writer,
+                        objectMapper);
+                case NDJSON -> copyLines(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)), writer);
+                case JSON -> copyArray(objectMapper.getFactory().createParser(in), writer, objectMapper);
+            };
+        }
+    }
+
+    private static long copyLines(BufferedReader reader, Writer writer) throws IOException {
+        long rows = 0;
+        for (String line = reader.readLine(); line != null; line = reader.readLine()) {
+            if (!line.isBlank()) {
+                write(writer, new Row(++rows, line.strip()));
+            }
+        }
+        return rows;
+    }
+
+    private static long copyArray(JsonParser parser, Writer writer, ObjectMapper objectMapper) throws IOException {
+        long rows = 0;
+        try (parser) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw invalidFile("A JSON import must be an array of employees");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                write(writer, new Row(++rows, objectMapper.writeValueAsString(node)));
+            }
+        } catch (JsonProcessingException e) {
+            throw invalidFile("Malformed JSON after row " + rows);
+        }
+        return rows;
+    }
+
+    /**
+     * RFC 4180 CSV: a header row naming the fields, then one employee per record. Empty
+     * values are left out, so they read as absent fields.
+     */
+    private static long copyCsv(Reader reader, Writer writer, ObjectMapper objectMapper) throws IOException {
+        List<String> header = readRecord(reader);
+        if (header == null) {
+            return 0;
+        }
+        if (!header.isEmpty() && header.get(0).startsWith("\uFEFF")) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        long rows = 0;
+        for (List<String> record = readRecord(reader); record != null; record = readRecord(reader)) {
+            if (record.size() == 1 && record.get(0).isEmpty()) {
+                continue;
+            }
+            ObjectNode node = objectMapper.createObjectNode();
+            for (int i = 0; i < Math.min(header.size(), record.size()); i++) {
+                if (!record.get(i).isEmpty()) {
+                    node.put(header.get(i).strip(), record.get(i));
+                }
+            }
+            write(writer, new Row(++rows, objectMapper.writeValueAsString(node)));
+        }
+        return rows;
+    }
+
+    /**
+     * The fields of the next record, or null at the end of the input.
+     */
+    private static List<String> readRecord(Reader reader) throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (; c != -1; c = reader.read()) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                    continue;
+                }
+                c = reader.read();
+                if (c == '"') {
+                    field.append('"');
+                    continue;
+                }
+                quoted = false;
+                if (c == -1) {
+                    break;
+                }
+            }
+            if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+        if (quoted) {
+            throw invalidFile("Unterminated quoted CSV value");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static ValidationException invalidFile(String message) {
+        List<ValidationError> errors = new ArrayList<>();
+        errors.add(new ValidationError("file", message));
+        return new ValidationException("Invalid import file", errors);
+    }
+}
@@ -0,0 +1,91 @@
+package experton.ai.employee.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.OrgChartNode;
+import experton.ai.employee.dto.ReportCountResponse;
+import experton.ai.employee.exception.EmployeeNotFoundException;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+/**
+ * Reporting-tree queries over {@code managerId}. Each call issues a fixed number of
+ * recursive SQL queries regardless of tree depth; the tree shape is rebuilt in memory.
+ */
+@Service
+@Transactional(readOnly = true)
+public class OrgChartService {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    public OrgChartNode getSubtree(Integer id) {
+        Employee root = findEmployee(id);
+
+        Map<Integer, List<Employee>> reportsByManager = employeeRepository.findSubtree(id).stream()
+                .collect(Collectors.groupingBy(Employee::getManagerId));
+
+        OrgChartNode rootNode = new OrgChartNode(employeeService.convertToEmployeeResponse(root));
+        Set<Integer> visited = new HashSet<>();
+        visited.add(id);
+
+        // Iterative walk, so deep trees cannot overflow the stack
+        List<OrgChartNode> pending = new ArrayList<>();
+        pending.add(rootNode);
+        while (!pending.isEmpty()) {
+            OrgChartNode node = pending.remove(pending.size() - 1);
+            for (Employee report : reportsByManager.getOrDefault(node.getEmployee().getId(), List.of())) {
+                if (visited.add(report.getId())) {
+                    OrgChartNode child = new OrgChartNode(employeeService.convertToEmployeeResponse(report));
+                    node.getReports().add(child);
+                    pending.add(child);
+                }
+            }
+        }
+        return rootNode;
+    }
+
+    /**
+     * Managers of {@code id}, starting with the direct manager and ending at the root.
+     */
+    public List<EmployeeResponse> getChainOfCommand(Integer id) {
+        Employee employee = findEmployee(id);
+
+        Map<Integer, Employee> managers = new HashMap<>(employeeRepository.findChainOfCommand(id).stream()
+                .collect(Collectors.toMap(Employee::getId, Function.identity())));
+
+        List<EmployeeResponse> chain = new ArrayList<>();
+        Employee manager = managers.remove(employee.getManagerId());
+        while (manager != null) {
+            chain.add(employeeService.convertToEmployeeResponse(manager));
+            manager = managers.remove(manager.getManagerId());
+        }
+        return chain;
+    }
+
+    public ReportCountResponse getReportCounts(Integer id) {
+        findEmployee(id);
+        EmployeeRepository.ReportCounts counts = employeeRepository.countReports(id);
+        return new ReportCountResponse(id, counts.getDirect(), counts.getTotal() - counts.getDirect(), counts.getTotal());
+    }
+
+    private Employee findEmployee(Integer id) {
+        return employeeRepository.findById(id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+    }
+}
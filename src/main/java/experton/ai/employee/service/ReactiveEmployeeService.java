@@ -0,0 +1,190 @@
+package experton.ai.employee.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.changelog.EmployeeChangeLog;
+import experton.ai.employee.dto.EmployeeCursor;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeePage;
+import experton.ai.employee.dto.EmployeeRequest;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.ValidationError;
+import experton.ai.employee.enums.ChangeType;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.event.EmployeeChangedEvent;
+import experton.ai.employee.exception.EmployeeNotFoundException;
+import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.ReactiveEmployeeRepository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuples;
+
+/**
+ * Reactive counterpart of {@link EmployeeService} for the core endpoints. Validation,
+ * mapping and paging rules are delegated to {@link EmployeeService}; only the database
+ * lookups they need are fetched up front, without blocking. Each write appends its change
+ * log rows in its own R2DBC transaction; the change feed endpoints themselves are only
+ * served by the servlet variant.
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveEmployeeService {
+
+    @Autowired
+    private ReactiveEmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    @Autowired
+    private EmployeeChangeLog changeLog;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public Flux<EmployeeResponse> getAllEmployees(String sortOrder, EmployeeFilter filter) {
+        return Flux.defer(() -> {
+            employeeService.validateSortOrder(sortOrder);
+            employeeService.validateFilter(filter);
+            if (columnStore.isAvailable()) {
+                return Flux.fromIterable(columnStore.findResponses(filter, sortOrder));
+            }
+            return employeeRepository.findAll(filter, sortOrder, null, null, 0)
+                    .map(employeeService::convertToEmployeeResponse);
+        });
+    }
+
+    public Mono<EmployeePage> getEmployeesPage(String sortOrder, EmployeeFilter filter, Integer size, Integer page,
+            String cursor) {
+        return Mono.defer(() -> {
+            employeeService.validateSortOrder(sortOrder);
+            employeeService.validateFilter(filter);
+            EmployeeCursor after = employeeService.validatePaging(sortOrder, size, page, cursor);
+
+            int pageSize = employeeService.resolvePageSize(size);
+            int pageNumber = page != null ? page : 0;
+            long offset = after != null ? 0 : (long) pageNumber * pageSize;
+            return employeeRepository.findAll(filter, sortOrder, after, pageSize + 1, offset)
+                    .map(employeeService::convertToEmployeeResponse)
+                    .collectList()
+                    .map(employees -> employeeService.toPage(employees, sortOrder, pageSize, pageNumber,
+                            after != null));
+        });
+    }
+
+    /**
+     * Every matching employee in id order, emitted as rows arrive so the caller's demand
+     * bounds how much is held in memory.
+     */
+    public Flux<EmployeeResponse> exportEmployees(Department department, EmployeeStatus status) {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setDepartment(department);
+        filter.setStatus(status);
+        return employeeRepository.findAll(filter, null, null, null, 0)
+                .map(employeeService::convertToEmployeeResponse);
+    }
+
+    public Mono<EmployeeResponse> getEmployeeById(Integer id) {
+        return employeeRepository.findById(id).map(employeeService::convertToEmployeeResponse);
+    }
+
+    public Mono<Employee> saveEmployee(Employee employee) {
+        return Mono.defer(() -> {
+            List<ValidationError> errors = employeeService.validateEmployee(employee, managerId -> true);
+            if (!errors.isEmpty()) {
+                return Mono.error(new ValidationException("Validation failed", errors));
+            }
+            return logged(employeeRepository.insert(employee), saved -> List.of(change(ChangeType.CREATED, saved)));
+        }).onErrorMap(DataIntegrityViolationException.class,
+                e -> employeeService.translateManagerViolation(e, employee.getManagerId()));
+    }
+
+    /**
+     * Same contract as {@link EmployeeService#updateEmployee(Integer, EmployeeRequest, Set)}.
+     */
+    public Mono<Employee> updateEmployee(Integer id, EmployeeRequest request, Set<Long> expectedVersions) {
+        return employeeRepository.findById(id)
+                .switchIfEmpty(Mono.error(() -> notFound(id)))
+                .doOnNext(employee -> employeeService.checkVersion(employee, expectedVersions))
+                .flatMap(employee -> createsCycle(employee, request).flatMap(cycle -> {
+                    List<ValidationError> errors = employeeService.applyUpdate(employee, request,
+                            managerId -> true, (employeeId, managerId) -> cycle);
+                    if (!errors.isEmpty()) {
+                        return Mono.error(new ValidationException("Validation failed", errors));
+                    }
+                    return logged(employeeRepository.update(employee),
+                            saved -> List.of(change(ChangeType.UPDATED, saved)));
+                }))
+                .onErrorMap(DataIntegrityViolationException.class,
+                        e -> employeeService.translateManagerViolation(e, request.getManagerId()));
+    }
+
+    /**
+     * Same contract as {@link EmployeeService#deleteEmployee}: direct reports are detached
+     * first and logged as updated, in the same transaction as the delete.
+     */
+    public Mono<Void> deleteEmployee(Integer id) {
+        return logged(employeeRepository.detachReports(id).collectList()
+                        .flatMap(reports -> employeeRepository.deleteById(id)
+                                .flatMap(deleted -> deleted ? Mono.just(reports) : Mono.error(notFound(id)))),
+                reports -> {
+                    List<EmployeeChangedEvent> changes = new ArrayList<>();
+                    reports.forEach(report -> changes.add(change(ChangeType.UPDATED, report)));
+                    changes.add(new EmployeeChangedEvent(ChangeType.DELETED, id, null, true));
+                    return changes;
+                })
+                .then();
+    }
+
+    /**
+     * Runs {@code write} and appends the change log rows for the changes it made in the same
+     * transaction, then publishes those changes once it has committed.
+     */
+    private <T> Mono<T> logged(Mono<T> write, Function<T, List<EmployeeChangedEvent>> changesOf) {
+        return employeeRepository.inTransaction(write.flatMap(result -> {
+                    List<EmployeeChangedEvent> changes = changesOf.apply(result);
+                    return employeeRepository.appendChanges(changes.stream().map(changeLog::toChange).toList())
+                            .thenReturn(Tuples.of(result, changes));
+                }))
+                .map(committed -> {
+                    committed.getT2().forEach(eventPublisher::publishEvent);
+                    return committed.getT1();
+                });
+    }
+
+    private EmployeeChangedEvent change(ChangeType type, Employee employee) {
+        return new EmployeeChangedEvent(type, employee.getId(), employeeService.convertToEmployeeResponse(employee),
+                true);
+    }
+
+    /**
+     * Runs the reporting-cycle query only when {@link EmployeeService#applyUpdate} would ask
+     * for it: a new manager other than the employee itself.
+     */
+    private Mono<Boolean> createsCycle(Employee employee, EmployeeRequest request) {
+        Integer managerId = request.getManagerId();
+        if (managerId == null || managerId.equals(employee.getId()) || managerId.equals(employee.getManagerId())) {
+            return Mono.just(false);
+        }
+        return employeeRepository.isInChainOfCommand(managerId, employee.getId());
+    }
+
+    private static EmployeeNotFoundException notFound(Integer id) {
+        return new EmployeeNotFoundException(id);
+    }
+}
@@ -0,0 +1,366 @@
+package experton.ai.employee.service;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+
+import experton.ai.employee.analytics.EmployeeColumns;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeePage;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.dto.SalaryStatsResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.shard.EmployeeShards;
+import experton.ai.employee.shard.ShardClient;
+
+/**
+ * The list and statistics reads of a sharded deployment, answered for all shards at once.
+ * Parameters are checked here first, so an invalid request fails with the same errors as on
+ * a single instance; then every other shard is asked in parallel while this one reads its
+ * own data, and the parts are merged.
+ *
+ * <p>Lists and top earners merge the sorted parts of each shard; pages take the first rows
+ * of each shard up to the end of the page. Headcounts, sums and means could be merged from
+ * per-shard totals, but percentiles cannot, so the statistics gather the matching rows of
+ * every shard and aggregate them here, with the code a single instance uses. The shards are
+ * read independently, not as one snapshot.
+ */
+@Service
+@ConditionalOnProperty(name = "employee.sharding.enabled")
+public class ShardedEmployeeService {
+
+    private static final String EMPLOYEES_PATH = "/api/v1/employees";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final TypeReference<List<EmployeeResponse>> EMPLOYEE_LIST = new TypeReference<>() {
+    };
+    private static final Comparator<Enum<?>> BY_NAME = Comparator.nullsFirst(Comparator.comparing(Enum::name));
+
+    @Autowired
+    private EmployeeShards shards;
+
+    @Autowired
+    private ShardClient shardClient;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeStatsService statsService;
+
+    public List<EmployeeResponse> getAllEmployees(String sortOrder, EmployeeFilter filter) {
+        employeeService.validateSortOrder(sortOrder);
+        employeeService.validateFilter(filter);
+        MultiValueMap<String, String> params = filterParams(filter);
+        addIfPresent(params, "sort", sortOrder);
+
+        // Each part is sorted, and the sort merges presorted runs in linear time
+        List<EmployeeResponse> employees = gather(EMPLOYEES_PATH, params,
+                () -> employeeService.getAllEmployees(sortOrder, filter));
+        employees.sort(EmployeeService.listOrder(sortOrder));
+        return employees;
+    }
+
+    /**
+     * A page of the merged list. Every shard contributes its first rows up to the end of the
+     * page (after the cursor, if any), read in pages of at most the maximum page size.
+     */
+    public EmployeePage getEmployeesPage(String sortOrder, EmployeeFilter filter, Integer size, Integer page,
+            String cursor) {
+        employeeService.validateSortOrder(sortOrder);
+        employeeService.validateFilter(filter);
+        employeeService.validatePaging(sortOrder, size, page, cursor);
+
+        int pageSize = employeeService.resolvePageSize(size);
+        int pageNumber = page != null ? page : 0;
+        int offset = cursor != null ? 0
+                : (int) Math.min((long) pageNumber * pageSize, Integer.MAX_VALUE - pageSize - 1);
+        int wanted = offset + pageSize + 1;
+        MultiValueMap<String, String> params = filterParams(filter);
+        addIfPresent(params, "sort", sortOrder);
+
+        List<CompletableFuture<List<EmployeeResponse>>> parts = new ArrayList<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            if (!shards.isLocal(shard)) {
+                int remote = shard;
+                parts.add(firstRows((rows, after) -> remotePage(remote, params, rows, after), cursor, wanted,
+                        new ArrayList<>()));
+            }
+        }
+        List<EmployeeResponse> employees = ShardClient.await(firstRows((rows, after) -> CompletableFuture
+                .completedFuture(employeeService.getEmployeesPage(sortOrder, filter, rows, null, after)),
+                cursor, wanted, new ArrayList<>()));
+        for (CompletableFuture<List<EmployeeResponse>> part : parts) {
+            employees.addAll(ShardClient.await(part));
+        }
+        employees.sort(EmployeeService.listOrder(sortOrder));
+
+        List<EmployeeResponse> window = employees.subList(Math.min(offset, employees.size()),
+                Math.min(wanted, employees.size()));
+        return employeeService.toPage(new ArrayList<>(window), sortOrder, pageSize, pageNumber, cursor != null);
+    }
+
+    /**
+     * Every matching employee of every shard, one shard after another in shard order, as
+     * newline-delimited JSON or as one JSON array.
+     */
+    public void exportEmployees(Department department, EmployeeStatus status, boolean jsonArray, OutputStream out)
+            throws IOException {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        addIfPresent(params, "department", department);
+        addIfPresent(params, "status", status);
+
+        ExportOutputStream rows = new ExportOutputStream(out, jsonArray);
+        for (int shard = 0; shard < shards.count(); shard++) {
+            if (shards.isLocal(shard)) {
+                employeeService.exportEmployees(department, status, false, rows);
+            } else {
+                try (InputStream in = shardClient.stream(shard, EMPLOYEES_PATH + "/export", params,
+                        "application/x-ndjson")) {
+                    in.transferTo(rows);
+                }
+            }
+        }
+        rows.finish();
+    }
+
+    /**
+     * The {@code limit} employees with the highest (or lowest) salary of every shard's own
+     * top {@code limit}.
+     */
+    public List<EmployeeResponse> getTopSalaries(EmployeeFilter filter, Integer limit, String sortOrder) {
+        int size = statsService.resolveTopLimit(filter, limit, sortOrder);
+        MultiValueMap<String, String> params = filterParams(filter);
+        params.add("limit", Integer.toString(size));
+        addIfPresent(params, "sort", sortOrder);
+
+        List<EmployeeResponse> employees = gather(EMPLOYEES_PATH + "/salaries/top", params,
+                () -> statsService.getTopSalaries(filter, size, sortOrder));
+        employees.sort(EmployeeService.listOrder(sortOrder != null ? sortOrder : "desc"));
+        return new ArrayList<>(employees.subList(0, Math.min(size, employees.size())));
+    }
+
+    /**
+     * Headcount and salary per department and status over every shard, with percentiles
+     * interpolated like SQL {@code PERCENTILE_CONT} and groups in the database's order.
+     */
+    public List<SalaryStatsResponse> getSalaryStats() {
+        EmployeeFilter all = new EmployeeFilter();
+        List<EmployeeResponse> employees = gather(EMPLOYEES_PATH, new LinkedMultiValueMap<>(),
+                () -> employeeService.getAllEmployees(null, all));
+
+        Map<SalaryStatsResponse, List<Double>> groups = new TreeMap<>(
+                Comparator.comparing(SalaryStatsResponse::getDepartment, BY_NAME)
+                        .thenComparing(SalaryStatsResponse::getStatus, BY_NAME));
+        for (EmployeeResponse employee : employees) {
+            SalaryStatsResponse group = new SalaryStatsResponse();
+            group.setDepartment(employee.getDepartment());
+            group.setStatus(employee.getStatus());
+            List<Double> salaries = groups.computeIfAbsent(group, key -> new ArrayList<>());
+            salaries.add(employee.getSalary());
+        }
+
+        List<SalaryStatsResponse> stats = new ArrayList<>();
+        groups.forEach((group, salaries) -> {
+            group.setHeadcount(salaries.size());
+            double[] sorted = salaries.stream().filter(salary -> salary != null)
+                    .mapToDouble(Double::doubleValue).sorted().toArray();
+            if (sorted.length > 0) {
+                double total = Arrays.stream(sorted).sum();
+                group.setTotalSalary(total);
+                group.setMinSalary(sorted[0]);
+                group.setMaxSalary(sorted[sorted.length - 1]);
+                group.setMeanSalary(total / sorted.length);
+                group.setP50Salary(percentile(sorted, 0.5));
+                group.setP90Salary(percentile(sorted, 0.9));
+                group.setP99Salary(percentile(sorted, 0.99));
+            }
+            stats.add(group);
+        });
+        return stats;
+    }
+
+    public EmployeeBreakdownResponse getBreakdown(EmployeeFilter filter) {
+        employeeService.validateFilter(filter);
+        return matchingColumns(filter).breakdown(new EmployeeFilter(), LocalDate.now());
+    }
+
+    public List<SalaryPercentilesResponse> getSalaryPercentiles(EmployeeFilter filter, List<Double> percentiles) {
+        employeeService.validateFilter(filter);
+        double[] requested = statsService.resolvePercentiles(percentiles);
+        return matchingColumns(filter).percentiles(new EmployeeFilter(), requested);
+    }
+
+    /**
+     * The matching employees of every shard in columns, to aggregate as the column store
+     * does.
+     */
+    private EmployeeColumns matchingColumns(EmployeeFilter filter) {
+        List<EmployeeResponse> employees = gather(EMPLOYEES_PATH, filterParams(filter),
+                () -> employeeService.getAllEmployees(null, filter));
+        EmployeeColumns columns = new EmployeeColumns(employees.size());
+        employees.forEach(columns::put);
+        return columns;
+    }
+
+    /**
+     * This shard's rows from {@code local} and every other shard's from {@code path}, in
+     * shard order. The other shards are asked first, so they answer while this one reads.
+     */
+    private List<EmployeeResponse> gather(String path, MultiValueMap<String, String> params,
+            Supplier<List<EmployeeResponse>> local) {
+        List<CompletableFuture<List<EmployeeResponse>>> parts = new ArrayList<>();
+        for (int shard = 0; shard < shards.count(); shard++) {
+            parts.add(shards.isLocal(shard) ? null
+                    : shardClient.get(shard, path, params).thenApply(response -> shardClient.read(response,
+                            EMPLOYEE_LIST)));
+        }
+        List<EmployeeResponse> employees = new ArrayList<>();
+        for (CompletableFuture<List<EmployeeResponse>> part : parts) {
+            employees.addAll(part != null ? ShardClient.await(part) : local.get());
+        }
+        return employees;
+    }
+
+    private interface PageSource {
+        CompletableFuture<EmployeePage> fetch(int size, String cursor);
+    }
+
+    /**
+     * Appends the first rows of {@code source} after {@code cursor} to {@code rows} until
+     * there are {@code wanted} or the source runs out.
+     */
+    private static CompletableFuture<List<EmployeeResponse>> firstRows(PageSource source, String cursor, int wanted,
+            List<EmployeeResponse> rows) {
+        int size = Math.min(wanted - rows.size(), EmployeeService.MAX_PAGE_SIZE);
+        return source.fetch(size, cursor).thenCompose(page -> {
+            rows.addAll(page.getContent());
+            if (rows.size() >= wanted || page.getNextCursor() == null) {
+                return CompletableFuture.completedFuture(rows);
+            }
+            return firstRows(source, page.getNextCursor(), wanted, rows);
+        });
+    }
+
+    private CompletableFuture<EmployeePage> remotePage(int shard, MultiValueMap<String, String> filterParams,
+            int size, String cursor) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>(filterParams);
+        params.add("size", Integer.toString(size));
+        addIfPresent(params, "cursor", cursor);
+        return shardClient.get(shard, EMPLOYEES_PATH, params).thenApply(response -> new EmployeePage(
+                shardClient.read(response, EMPLOYEE_LIST),
+                response.headers().firstValue(NEXT_CURSOR_HEADER).orElse(null),
+                null));
+    }
+
+    private static MultiValueMap<String, String> filterParams(EmployeeFilter filter) {
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        addIfPresent(params, "department", filter.getDepartment());
+        addIfPresent(params, "status", filter.getStatus());
+        addIfPresent(params, "joinedFrom", filter.getJoinedFrom());
+        addIfPresent(params, "joinedTo", filter.getJoinedTo());
+        addIfPresent(params, "minSalary", filter.getMinSalary());
+        addIfPresent(params, "maxSalary", filter.getMaxSalary());
+        addIfPresent(params, "name", filter.getName());
+        return params;
+    }
+
+    private static void addIfPresent(MultiValueMap<String, String> params, String name, Object value) {
+        if (value != null) {
+            params.add(name, value.toString());
+        }
+    }
+
+    private static double percentile(double[] sorted, double percentile) {
+        double position = percentile * (sorted.length - 1);
+        int lower = (int) position;
+        double value = sorted[lower];
+        return position > lower ? value + (sorted[lower + 1] - value) * (position - lower) : value;
+    }
+
+    /**
+     * Passes newline-delimited rows through, or turns them into one JSON array by writing a
+     * comma for every line break that is followed by another row. Closing it leaves the
+     * response open for the rows of the next shard.
+     */
+    private static final class ExportOutputStream extends FilterOutputStream {
+
+        private final boolean jsonArray;
+        private boolean separator;
+
+        ExportOutputStream(OutputStream out, boolean jsonArray) throws IOException {
+            super(out);
+            this.jsonArray = jsonArray;
+            if (jsonArray) {
+                out.write('[');
+            }
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!jsonArray) {
+                out.write(b);
+            } else if (b == '\n') {
+                separator = true;
+            } else {
+                if (separator) {
+                    out.write(',');
+                    separator = false;
+                }
+                out.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (!jsonArray) {
+                out.write(b, off, len);
+                return;
+            }
+            int start = off;
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    out.write(b, start, i - start);
+                    start = i + 1;
+                    separator = true;
+                } else if (separator) {
+                    out.write(',');
+                    separator = false;
+                }
+            }
+            out.write(b, start, off + len - start);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+
+        void finish() throws IOException {
+            if (jsonArray) {
+                out.write(']');
+            }
+            out.flush();
+        }
+    }
+}
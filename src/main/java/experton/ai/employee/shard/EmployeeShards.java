@@ -0,0 +1,107 @@
+package experton.ai.employee.shard;
+
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Layout of a sharded deployment: the base URL of every instance, in shard order, and the
+ * shard this instance is. Shard {@code i} owns the employee ids
+ * {@code i * idRangeSize + 1 .. (i + 1) * idRangeSize}, so the owner of an id is found by
+ * division and a shard can be appended without moving anyone.
+ *
+ * <p>Each shard draws its ids from its own database's {@code employees_seq}, which is
+ * confined to the shard's range before anything is written: ids cannot collide, and a shard
+ * that runs out of range fails its inserts instead of taking another shard's ids.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.sharding.enabled")
+public class EmployeeShards implements SmartInitializingSingleton {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeShards.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<String> nodes;
+    private final int localShard;
+    private final int idRangeSize;
+
+    public EmployeeShards(@Value("${employee.sharding.nodes}") String[] nodes,
+            @Value("${employee.sharding.shard-index:0}") int localShard,
+            @Value("${employee.sharding.id-range-size:100000000}") int idRangeSize) {
+        if (nodes.length == 0 || localShard < 0 || localShard >= nodes.length) {
+            throw new IllegalStateException("employee.sharding.shard-index must index employee.sharding.nodes");
+        }
+        if (idRangeSize < 1 || (long) idRangeSize * nodes.length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("employee.sharding.id-range-size leaves no id range for every shard");
+        }
+        this.nodes = List.of(nodes).stream().map(node -> node.strip().replaceAll("/+$", "")).toList();
+        this.localShard = localShard;
+        this.idRangeSize = idRangeSize;
+    }
+
+    public int count() {
+        return nodes.size();
+    }
+
+    public int localShard() {
+        return localShard;
+    }
+
+    public String baseUrl(int shard) {
+        return nodes.get(shard);
+    }
+
+    /**
+     * The shard owning {@code id}. Ids outside every range belong to this instance, which
+     * then answers for them as for any id it does not have.
+     */
+    public int ownerOf(int id) {
+        int shard = id > 0 ? (id - 1) / idRangeSize : localShard;
+        return shard < nodes.size() ? shard : localShard;
+    }
+
+    public boolean isLocal(int shard) {
+        return shard == localShard;
+    }
+
+    long firstId(int shard) {
+        return (long) shard * idRangeSize + 1;
+    }
+
+    long lastId(int shard) {
+        return (long) (shard + 1) * idRangeSize;
+    }
+
+    /**
+     * Confines {@code employees_seq} to this shard's range. Hibernate's pooled optimizer
+     * hands out the {@code increment} ids up to each sequence value, so a sequence that has
+     * not reached the range yet restarts one block into it. Runs once the schema exists and
+     * before lifecycle beans (such as resumed imports) start writing.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<String, Object> sequence = jdbcTemplate.queryForMap("SELECT BASE_VALUE, INCREMENT "
+                + "FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = 'EMPLOYEES_SEQ'");
+        long next = ((Number) sequence.get("BASE_VALUE")).longValue();
+        long increment = ((Number) sequence.get("INCREMENT")).longValue();
+        long first = firstId(localShard);
+        long last = lastId(localShard);
+        if (next > last || first + increment - 1 > last) {
+            throw new IllegalStateException("employees_seq does not fit the id range of shard " + localShard);
+        }
+        long restart = Math.max(next, first + increment - 1);
+        jdbcTemplate.execute("ALTER SEQUENCE employees_seq START WITH " + restart + " RESTART WITH " + restart
+                + " MINVALUE " + first + " MAXVALUE " + last + " NO CYCLE");
+        log.info("Shard {} of {} allocates employee ids {}..{}", localShard, nodes.size(), first, last);
+    }
+}
@@ -0,0 +1,222 @@
+package experton.ai.employee.shard;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.exception.ShardUnavailableException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * HTTP between shards. Every request it sends carries {@link #SHARD_HEADER}, which tells the
+ * receiving instance to answer from its own data instead of routing or fanning out again,
+ * and {@link #SECRET_HEADER} with {@code employee.sharding.secret}, without which the
+ * receiving instance ignores the first. A forwarded request also names its client's address
+ * in {@link #CLIENT_HEADER}. A shard that cannot be reached, or answers with an error, fails
+ * the request with {@link ShardUnavailableException}.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.sharding.enabled")
+public class ShardClient {
+
+    public static final String SHARD_HEADER = "X-Employee-Shard";
+    public static final String SECRET_HEADER = "X-Employee-Shard-Secret";
+    public static final String CLIENT_HEADER = "X-Employee-Shard-Client";
+
+    private static final Logger log = LoggerFactory.getLogger(ShardClient.class);
+
+    /** Headers that belong to one connection, or that the JDK client sets itself. */
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of("connection", "content-length", "expect", "host",
+            "keep-alive", "proxy-connection", "te", "trailer", "transfer-encoding", "upgrade");
+
+    @Autowired
+    private EmployeeShards shards;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Duration timeout;
+    private final String secret;
+    private final HttpClient httpClient;
+
+    public ShardClient(@Value("${employee.sharding.timeout:10s}") Duration timeout,
+            @Value("${employee.sharding.secret:}") String secret) {
+        if (secret.isBlank()) {
+            throw new IllegalStateException("employee.sharding.secret must be set for a sharded deployment");
+        }
+        this.timeout = timeout;
+        this.secret = secret;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(timeout)
+                .build();
+    }
+
+    /**
+     * Sends {@code request}, with {@code body}, to the same path on {@code shard} and copies
+     * the answer into {@code response} as it was given.
+     */
+    public void forward(int shard, HttpServletRequest request, byte[] body, HttpServletResponse response)
+            throws IOException {
+        String query = request.getQueryString();
+        HttpRequest.Builder forwarded = HttpRequest.newBuilder(
+                        URI.create(shards.baseUrl(shard) + request.getRequestURI() + (query != null ? "?" + query : "")))
+                .timeout(timeout)
+                .method(request.getMethod(), body.length > 0
+                        ? HttpRequest.BodyPublishers.ofByteArray(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                Collections.list(request.getHeaders(name)).forEach(value -> forwarded.header(name, value));
+            }
+        }
+        forwarded.header(SHARD_HEADER, Integer.toString(shards.localShard()))
+                .header(SECRET_HEADER, secret)
+                .header(CLIENT_HEADER, request.getRemoteAddr());
+
+        HttpResponse<InputStream> answer;
+        try {
+            answer = httpClient.send(forwarded.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw unavailable(shard, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable(shard, e);
+        }
+        response.setStatus(answer.statusCode());
+        answer.headers().map().forEach((name, values) -> {
+            if (!name.startsWith(":") && !HOP_BY_HOP_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                values.forEach(value -> response.addHeader(name, value));
+            }
+        });
+        try (InputStream in = answer.body()) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    /**
+     * GETs {@code path} from {@code shard} as JSON. The future fails with
+     * {@link ShardUnavailableException} unless the shard answers with a 2xx status.
+     */
+    public CompletableFuture<HttpResponse<byte[]>> get(int shard, String path, MultiValueMap<String, String> params) {
+        return httpClient.sendAsync(request(shard, path, params, "application/json"),
+                        HttpResponse.BodyHandlers.ofByteArray())
+                .handle((response, failure) -> {
+                    if (failure != null) {
+                        throw unavailable(shard, failure instanceof CompletionException ? failure.getCause() : failure);
+                    }
+                    checkStatus(shard, response);
+                    return response;
+                });
+    }
+
+    /**
+     * GETs {@code path} from {@code shard} and returns the body as it arrives.
+     */
+    public InputStream stream(int shard, String path, MultiValueMap<String, String> params, String accept) {
+        try {
+            HttpResponse<InputStream> response = httpClient.send(request(shard, path, params, accept),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            if (response.statusCode() / 100 != 2) {
+                response.body().close();
+            }
+            checkStatus(shard, response);
+            return response.body();
+        } catch (IOException e) {
+            throw unavailable(shard, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw unavailable(shard, e);
+        }
+    }
+
+    /**
+     * Whether {@code request} was sent by another shard: it carries {@link #SHARD_HEADER} and
+     * the shared secret.
+     */
+    public boolean isFromShard(HttpServletRequest request) {
+        String sent = request.getHeader(SECRET_HEADER);
+        return request.getHeader(SHARD_HEADER) != null && sent != null
+                && MessageDigest.isEqual(sent.getBytes(StandardCharsets.UTF_8),
+                        secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public <T> T read(HttpResponse<byte[]> response, TypeReference<T> type) {
+        try {
+            return objectMapper.readValue(response.body(), type);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * The result of {@code future}, with the exception it failed with rethrown as is.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private HttpRequest request(int shard, String path, MultiValueMap<String, String> params, String accept) {
+        URI uri = UriComponentsBuilder.fromHttpUrl(shards.baseUrl(shard) + path)
+                .queryParams(params)
+                .encode()
+                .build()
+                .toUri();
+        return HttpRequest.newBuilder(uri)
+                .timeout(timeout)
+                .header(HttpHeaders.ACCEPT, accept)
+                .header(SHARD_HEADER, Integer.toString(shards.localShard()))
+                .header(SECRET_HEADER, secret)
+                .GET()
+                .build();
+    }
+
+    private static void checkStatus(int shard, HttpResponse<?> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw unavailable(shard, "answered " + response.statusCode() + " to " + response.uri().getPath(), null);
+        }
+    }
+
+    private static ShardUnavailableException unavailable(int shard, Throwable cause) {
+        return unavailable(shard, cause.getClass().getSimpleName()
+                + (cause.getMessage() != null ? ": " + cause.getMessage() : ""), cause);
+    }
+
+    private static ShardUnavailableException unavailable(int shard, String reason, Throwable cause) {
+        log.warn("Shard {} is unavailable: {}", shard, reason);
+        return new ShardUnavailableException(shard, reason, cause);
+    }
+}
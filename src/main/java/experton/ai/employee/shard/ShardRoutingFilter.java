@@ -0,0 +1,259 @@
+package experton.ai.employee.shard;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.exception.ShardUnavailableException;
+import experton.ai.employee.ratelimit.RateLimitInterceptor;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Sends each request about one employee to the shard that owns it: reads, updates and
+ * deletes of {@code /api/v1/employees/{id}} and its sub-resources go to the owner of the id,
+ * and a new employee is created on the shard of its manager, so a reporting line never
+ * crosses shards and the org chart queries stay local. An employee without a manager is
+ * created where the request arrived. Lists and statistics are fanned out by
+ * {@code ShardedEmployeeController}; batches and imports are written to the receiving shard.
+ *
+ * <p>A request from another shard is answered here. A forwarded one is rate limited as a
+ * request from its client's address, and one shard's part of a list or statistic is not
+ * limited at all, its client having been charged on the shard it asked. Shard headers on a
+ * request from anywhere else are dropped, so a client cannot have its request answered
+ * from one shard's data or exempted from the rate limit.
+ */
+@Component
+@ConditionalOnProperty(name = "employee.sharding.enabled")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ShardRoutingFilter extends OncePerRequestFilter {
+
+    private static final String EMPLOYEES_PATH = "/api/v1/employees";
+    private static final Pattern EMPLOYEE_PATH = Pattern.compile("/api/v1/employees/(\\d{1,10})(/.*)?");
+
+    @Autowired
+    private EmployeeShards shards;
+
+    @Autowired
+    private ShardClient shardClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("handlerExceptionResolver")
+    private HandlerExceptionResolver exceptionResolver;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !path(request).startsWith(EMPLOYEES_PATH);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (shardClient.isFromShard(request)) {
+            String client = request.getHeader(ShardClient.CLIENT_HEADER);
+            if (client != null) {
+                request = new ForwardedRequest(request, client);
+            } else {
+                request.setAttribute(RateLimitInterceptor.EXEMPT_ATTRIBUTE, Boolean.TRUE);
+            }
+            chain.doFilter(request, response);
+            return;
+        }
+        request = new EdgeRequest(request);
+
+        String path = path(request);
+        Matcher employeePath = EMPLOYEE_PATH.matcher(path);
+        if (employeePath.matches()) {
+            long id = Long.parseLong(employeePath.group(1));
+            int owner = id <= Integer.MAX_VALUE ? shards.ownerOf((int) id) : shards.localShard();
+            if (!shards.isLocal(owner)) {
+                forward(owner, request, request.getInputStream().readAllBytes(), response);
+                return;
+            }
+        } else if (path.equals(EMPLOYEES_PATH) && "POST".equals(request.getMethod())) {
+            byte[] body = request.getInputStream().readAllBytes();
+            int owner = managerShard(body);
+            if (!shards.isLocal(owner)) {
+                forward(owner, request, body, response);
+                return;
+            }
+            request = new ReadBodyRequest(request, body);
+        }
+        chain.doFilter(request, response);
+    }
+
+    private void forward(int shard, HttpServletRequest request, byte[] body, HttpServletResponse response)
+            throws IOException {
+        try {
+            shardClient.forward(shard, request, body, response);
+        } catch (ShardUnavailableException e) {
+            exceptionResolver.resolveException(request, response, null, e);
+        }
+    }
+
+    /**
+     * The shard of the {@code managerId} in a create request. A body that does not parse
+     * stays here, to be rejected like any other.
+     */
+    private int managerShard(byte[] body) {
+        try {
+            JsonNode managerId = objectMapper.readTree(body).path("managerId");
+            if (managerId.canConvertToInt()) {
+                return shards.ownerOf(managerId.intValue());
+            }
+        } catch (IOException e) {
+            // answered by the controller
+        }
+        return shards.localShard();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /**
+     * A request from another shard, with the address of the client it was forwarded for.
+     */
+    private static final class ForwardedRequest extends HttpServletRequestWrapper {
+
+        private final String client;
+
+        ForwardedRequest(HttpServletRequest request, String client) {
+            super(request);
+            this.client = client;
+        }
+
+        @Override
+        public String getRemoteAddr() {
+            return client;
+        }
+
+        @Override
+        public String getRemoteHost() {
+            return client;
+        }
+    }
+
+    /**
+     * A request from outside the deployment, without the headers only shards may send.
+     */
+    private static final class EdgeRequest extends HttpServletRequestWrapper {
+
+        private static final Set<String> SHARD_HEADERS = Stream.of(ShardClient.SHARD_HEADER,
+                        ShardClient.SECRET_HEADER, ShardClient.CLIENT_HEADER)
+                .map(name -> name.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+
+        EdgeRequest(HttpServletRequest request) {
+            super(request);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return isShardHeader(name) ? null : super.getHeader(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaders(String name) {
+            return isShardHeader(name) ? Collections.emptyEnumeration() : super.getHeaders(name);
+        }
+
+        @Override
+        public Enumeration<String> getHeaderNames() {
+            return Collections.enumeration(Collections.list(super.getHeaderNames()).stream()
+                    .filter(name -> !isShardHeader(name))
+                    .toList());
+        }
+
+        private static boolean isShardHeader(String name) {
+            return SHARD_HEADERS.contains(name.toLowerCase(Locale.ROOT));
+        }
+    }
+
+    /**
+     * The request with its body, already read to find the manager, available again.
+     */
+    private static final class ReadBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        ReadBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    // The whole body is in memory, so it is all available at once
+                    try {
+                        listener.onDataAvailable();
+                        listener.onAllDataRead();
+                    } catch (IOException e) {
+                        listener.onError(e);
+                    }
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package experton.ai.employee.storage;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import experton.ai.employee.dto.EmployeeSnapshotResponse;
+
+/**
+ * {@code POST /actuator/snapshot} writes a CSV snapshot of the employees table. Exposed by
+ * the "persistent" profile only.
+ */
+@Component
+@Endpoint(id = "snapshot")
+public class EmployeeSnapshotEndpoint {
+
+    @Autowired
+    private EmployeeSnapshotService snapshotService;
+
+    @WriteOperation
+    public EmployeeSnapshotResponse snapshot() {
+        return snapshotService.snapshot();
+    }
+}
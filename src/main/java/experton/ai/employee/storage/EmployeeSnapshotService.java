@@ -0,0 +1,126 @@
+package experton.ai.employee.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import experton.ai.employee.dto.EmployeeSnapshotResponse;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Bulk copies of the {@code employees} table as CSV files, written and read by H2 itself
+ * ({@code CSVWRITE}/{@code CSVREAD}) so rows never pass through JDBC result sets or
+ * entities. A snapshot reads one MVCC view of the table; a restore is only allowed into an
+ * empty table and is meant to run at startup, before any id is handed out. The change log
+ * is not part of a snapshot: consumers of a restored store start over from the table.
+ */
+@Component
+public class EmployeeSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(EmployeeSnapshotService.class);
+
+    private static final String COLUMNS = "id, name, date_of_joining, status, department, salary, manager_id, version";
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss-SSS")
+            .withZone(ZoneOffset.UTC);
+
+    /** Matches the {@code allocationSize} of the JPA sequence generator. */
+    private static final int ID_BLOCK_SIZE = 50;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final TransactionTemplate transactionTemplate;
+    private final Path snapshotDir;
+    private final String restoreFrom;
+
+    public EmployeeSnapshotService(PlatformTransactionManager transactionManager,
+            @Value("${employee.storage.snapshot-dir:./data/snapshots}") Path snapshotDir,
+            @Value("${employee.storage.restore-from:}") String restoreFrom) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotDir = snapshotDir;
+        this.restoreFrom = restoreFrom;
+    }
+
+    @PostConstruct
+    void restoreOnStartup() {
+        if (!restoreFrom.isBlank()) {
+            restore(Path.of(restoreFrom));
+        }
+    }
+
+    /**
+     * Writes every employee, in id order, to a new file under the snapshot directory.
+     */
+    public EmployeeSnapshotResponse snapshot() {
+        Path file = snapshotDir.resolve("employees-" + FILE_TIMESTAMP.format(Instant.now()) + ".csv").toAbsolutePath();
+        try {
+            Files.createDirectories(snapshotDir);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create snapshot directory " + snapshotDir, e);
+        }
+
+        long start = System.nanoTime();
+        Integer rows = transactionTemplate.execute(status -> jdbcTemplate.queryForObject(
+                "CALL CSVWRITE(?, ?, 'charset=UTF-8')", Integer.class,
+                file.toString(), "SELECT " + COLUMNS + " FROM employees ORDER BY id"));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Wrote {} employees to {} in {} ms", rows, file, millis);
+        return new EmployeeSnapshotResponse(file.toString(), rows, millis);
+    }
+
+    /**
+     * Loads a snapshot into the empty {@code employees} table with one insert and moves
+     * {@code employees_seq} past the restored ids. Rows may reference managers that appear
+     * later in the file, so the manager foreign key is suspended during the insert and
+     * re-enabled with a check of every row; a snapshot with dangling references leaves the
+     * table empty. Suspending the key is far cheaper than a second pass that sets
+     * {@code manager_id}, and safe because restores run before requests are served.
+     */
+    public EmployeeSnapshotResponse restore(Path file) {
+        if (!Files.isReadable(file)) {
+            throw new IllegalArgumentException("Snapshot not readable: " + file);
+        }
+        String csv = file.toAbsolutePath().toString();
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Long.class);
+        if (existing != 0) {
+            throw new IllegalStateException("Refusing to restore " + file + " into a table with " + existing + " rows");
+        }
+
+        long start = System.nanoTime();
+        Integer rows;
+        jdbcTemplate.execute("ALTER TABLE employees SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            // CSVREAD resolves its columns when the statement is prepared, so the file name
+            // has to be a literal rather than a parameter
+            rows = transactionTemplate.execute(status -> jdbcTemplate.update("INSERT INTO employees (" + COLUMNS + ") "
+                    + "SELECT CAST(id AS INTEGER), name, CAST(date_of_joining AS DATE), status, department, "
+                    + "CAST(salary AS DOUBLE PRECISION), CAST(manager_id AS INTEGER), CAST(version AS BIGINT) "
+                    + "FROM CSVREAD('" + csv.replace("'", "''") + "', NULL, 'charset=UTF-8')"));
+            jdbcTemplate.execute("ALTER TABLE employees SET REFERENTIAL_INTEGRITY TRUE CHECK");
+        } catch (DataAccessException e) {
+            jdbcTemplate.update("DELETE FROM employees");
+            jdbcTemplate.execute("ALTER TABLE employees SET REFERENTIAL_INTEGRITY TRUE");
+            throw new IllegalStateException("Cannot restore " + file, e);
+        }
+
+        Integer maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM employees", Integer.class);
+        jdbcTemplate.execute("ALTER SEQUENCE employees_seq RESTART WITH " + (maxId + ID_BLOCK_SIZE));
+        long millis = (System.nanoTime() - start) / 1_000_000;
+        log.info("Restored {} employees from {} in {} ms", rows, file, millis);
+        return new EmployeeSnapshotResponse(csv, rows, millis);
+    }
+}
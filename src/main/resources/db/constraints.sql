@@ -0,0 +1,6 @@
+-- Constraints that Hibernate's schema update cannot derive from the mapping; applied after it.
+
+-- manager_id is a plain column on Employee, so the self-reference is declared here. It replaces
+-- the "manager exists" lookups on the write paths.
+ALTER TABLE employees ADD CONSTRAINT IF NOT EXISTS fk_employees_manager
+    FOREIGN KEY (manager_id) REFERENCES employees (id);
@@ -0,0 +1,39 @@
+-- Schema for the "persistent" profile, matching the JPA mapping as of entity versioning and
+-- the change log. Later mapping changes need a new migration; EmployeeStorageTests validates
+-- the mapping against these scripts.
+
+CREATE SEQUENCE employees_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE employees (
+    id INTEGER NOT NULL PRIMARY KEY,
+    date_of_joining DATE,
+    department VARCHAR(255) CHECK (department IN ('HR', 'IT', 'Finance', 'Sales', 'Marketing')),
+    manager_id INTEGER,
+    name VARCHAR(255),
+    salary FLOAT(53),
+    status VARCHAR(255) CHECK (status IN ('Active', 'Not_Active')),
+    version BIGINT DEFAULT 0 NOT NULL,
+    CONSTRAINT fk_employees_manager FOREIGN KEY (manager_id) REFERENCES employees (id)
+);
+
+CREATE INDEX idx_employees_department_status_salary ON employees (department, status, salary);
+CREATE INDEX idx_employees_status_date_of_joining ON employees (status, date_of_joining);
+CREATE INDEX idx_employees_date_of_joining ON employees (date_of_joining);
+CREATE INDEX idx_employees_salary_id ON employees (salary, id);
+CREATE INDEX idx_employees_manager_id ON employees (manager_id);
+CREATE INDEX idx_employees_name ON employees (name);
+
+CREATE TABLE employee_changes (
+    seq BIGINT NOT NULL PRIMARY KEY,
+    changed_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    employee_id INTEGER NOT NULL,
+    payload VARCHAR(4000),
+    change_type VARCHAR(255) NOT NULL CHECK (change_type IN ('CREATED', 'UPDATED', 'DELETED'))
+);
+
+CREATE INDEX idx_employee_changes_changed_at ON employee_changes (changed_at);
+
+CREATE TABLE employee_change_head (
+    id INTEGER NOT NULL PRIMARY KEY,
+    last_sequence BIGINT NOT NULL
+);
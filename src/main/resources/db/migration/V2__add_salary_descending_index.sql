@@ -0,0 +1,4 @@
+-- H2 reads an index in one direction only, so highest-salary rankings and descending salary
+-- pages need their own index to stop at the first rows instead of sorting the table.
+
+CREATE INDEX idx_employees_salary_id_desc ON employees (salary DESC, id DESC);
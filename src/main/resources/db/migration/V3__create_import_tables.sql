@@ -0,0 +1,38 @@
+-- Bulk import jobs (POST /api/v1/employees/imports): job progress and checkpoint, the rows
+-- that failed, and the employees created for each row ref.
+
+CREATE TABLE employee_import_jobs (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    created_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    failed_rows BIGINT NOT NULL,
+    failure VARCHAR(1000),
+    final_pass BOOLEAN NOT NULL,
+    format VARCHAR(255) NOT NULL CHECK (format IN ('CSV', 'NDJSON', 'JSON')),
+    imported_rows BIGINT NOT NULL,
+    pass INTEGER NOT NULL,
+    pass_imported_rows BIGINT NOT NULL,
+    pass_position BIGINT NOT NULL,
+    pending_bytes BIGINT NOT NULL,
+    pending_rows BIGINT NOT NULL,
+    status VARCHAR(255) NOT NULL CHECK (status IN ('QUEUED', 'RUNNING', 'COMPLETED', 'FAILED')),
+    total_rows BIGINT NOT NULL,
+    updated_at TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE TABLE employee_import_errors (
+    job_id VARCHAR(36) NOT NULL,
+    row_index BIGINT NOT NULL,
+    errors VARCHAR(4000) NOT NULL,
+    ref VARCHAR(255),
+    PRIMARY KEY (job_id, row_index)
+);
+
+CREATE TABLE employee_import_refs (
+    job_id VARCHAR(36) NOT NULL,
+    ref VARCHAR(255) NOT NULL,
+    employee_id INTEGER NOT NULL,
+    PRIMARY KEY (job_id, ref)
+);
+
+-- Refs are looked up with ref IN (...), which H2 only resolves through an index leading with ref
+CREATE INDEX idx_employee_import_refs_ref_job_id ON employee_import_refs (ref, job_id);
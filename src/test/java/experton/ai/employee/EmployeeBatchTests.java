@@ -0,0 +1,143 @@
+package experton.ai.employee;
+
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:batch")
+@AutoConfigureMockMvc
+class EmployeeBatchTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee manager;
+    private Employee report;
+
+    @BeforeEach
+    void setUp() {
+        manager = employeeRepository.save(newEmployee("Manager", null));
+        report = employeeRepository.save(newEmployee("Report", manager.getId()));
+    }
+
+    @Test
+    void createWritesValidItemsAndReportsTheRest() throws Exception {
+        String response = mockMvc.perform(post("/api/v1/employees:batch").contentType(MediaType.APPLICATION_JSON)
+                .content("[" + body("Created", manager.getId()) + ", " + body(" ", null) + ", null, "
+                        + body("Orphan", Integer.MAX_VALUE) + "]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(3))
+                .andExpect(jsonPath("$.results[*].status").value(contains("CREATED", "FAILED", "FAILED", "FAILED")))
+                .andExpect(jsonPath("$.results[1].errors[0].field").value("name"))
+                .andExpect(jsonPath("$.results[2].errors[0].field").value("request"))
+                .andExpect(jsonPath("$.results[3].errors[0].field").value("managerId"))
+                .andReturn().getResponse().getContentAsString();
+
+        int created = objectMapper.readTree(response).at("/results/0/id").asInt();
+        mockMvc.perform(get("/api/v1/employees/" + created))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value("Created"))
+                .andExpect(jsonPath("$.managerId").value(manager.getId()));
+    }
+
+    @Test
+    void updateReportsMissingIdsAndUnknownEmployees() throws Exception {
+        mockMvc.perform(patch("/api/v1/employees:batch").contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\": " + report.getId() + ", \"salary\": 2000}, {\"name\": \"No id\"}, {\"id\": "
+                        + Integer.MAX_VALUE + ", \"name\": \"Nobody\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[*].status").value(contains("UPDATED", "FAILED", "FAILED")))
+                .andExpect(jsonPath("$.results[1].errors[0].field").value("id"))
+                .andExpect(jsonPath("$.results[2].id").value(Integer.MAX_VALUE))
+                .andExpect(jsonPath("$.results[2].errors[0].message")
+                        .value("Employee not found with id: " + Integer.MAX_VALUE));
+
+        mockMvc.perform(get("/api/v1/employees/" + report.getId()))
+                .andExpect(jsonPath("$.salary").value(2000.0))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    @Test
+    void deleteRemovesExistingEmployeesAndDetachesTheirReports() throws Exception {
+        mockMvc.perform(post("/api/v1/employees:batchDelete").contentType(MediaType.APPLICATION_JSON)
+                .content("[" + manager.getId() + ", " + Integer.MAX_VALUE + ", null]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.results[*].status").value(contains("DELETED", "FAILED", "FAILED")))
+                .andExpect(jsonPath("$.results[1].errors[0].field").value("id"));
+
+        mockMvc.perform(get("/api/v1/employees/" + manager.getId())).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/" + report.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.managerId").doesNotExist());
+    }
+
+    @Test
+    void emptyBatchIsRejected() throws Exception {
+        mockMvc.perform(post("/api/v1/employees:batchDelete").contentType(MediaType.APPLICATION_JSON).content("[]"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("request"));
+    }
+
+    @Test
+    void failedUpdateLeavesItsRowUntouched() throws Exception {
+        // The reporting-cycle query auto-flushes the persistence context, so nothing may have
+        // been copied onto the entity of a failed item before it runs
+        mockMvc.perform(patch("/api/v1/employees:batch").contentType(MediaType.APPLICATION_JSON)
+                .content("[{\"id\": " + manager.getId() + ", \"name\": \"Changed\", \"salary\": -1, \"managerId\": "
+                        + report.getId() + "}, {\"id\": " + report.getId() + ", \"name\": \"Renamed\"}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("FAILED"))
+                .andExpect(jsonPath("$.results[0].errors[*].field").value(contains("salary", "managerId")))
+                .andExpect(jsonPath("$.results[1].status").value("UPDATED"));
+
+        mockMvc.perform(get("/api/v1/employees/" + manager.getId()))
+                .andExpect(jsonPath("$.name").value("Manager"))
+                .andExpect(jsonPath("$.salary").value(1000.0))
+                .andExpect(jsonPath("$.managerId").doesNotExist())
+                .andExpect(jsonPath("$.version").value(0));
+        mockMvc.perform(get("/api/v1/employees/" + report.getId()))
+                .andExpect(jsonPath("$.name").value("Renamed"))
+                .andExpect(jsonPath("$.version").value(1));
+    }
+
+    private static String body(String name, Integer managerId) {
+        return "{\"name\": \"" + name + "\", \"dateOfJoining\": \"2021-03-01\", \"status\": \"Active\", "
+                + "\"department\": \"HR\", \"salary\": 1500"
+                + (managerId != null ? ", \"managerId\": " + managerId : "") + "}";
+    }
+
+    private static Employee newEmployee(String name, Integer managerId) {
+        return new Employee(null, name, LocalDate.of(2020, 1, 1), EmployeeStatus.Active, Department.IT, 1000.0,
+                managerId, null);
+    }
+}
@@ -0,0 +1,94 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:cache")
+@AutoConfigureMockMvc
+class EmployeeCacheTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employee = employeeRepository.save(new Employee(null, "Cached", LocalDate.of(2020, 1, 1),
+                EmployeeStatus.Active, Department.IT, 1000.0, null, null));
+    }
+
+    @Test
+    void repeatedLookupsAreServedFromTheCache() throws Exception {
+        JsonNode before = stats();
+        mockMvc.perform(get("/api/v1/employees/" + employee.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/" + employee.getId())).andExpect(status().isOk());
+
+        JsonNode after = stats();
+        assertThat(after.get("enabled").asBoolean()).isTrue();
+        assertThat(after.get("misses").asLong() - before.get("misses").asLong()).isEqualTo(1);
+        assertThat(after.get("hits").asLong() - before.get("hits").asLong()).isEqualTo(1);
+    }
+
+    @Test
+    void writesInvalidateTheCachedEmployee() throws Exception {
+        String path = "/api/v1/employees/" + employee.getId();
+        mockMvc.perform(get(path)).andExpect(jsonPath("$.salary").value(1000.0));
+
+        mockMvc.perform(patch(path).contentType(MediaType.APPLICATION_JSON).content("{\"salary\": 1500}"))
+                .andExpect(status().isOk());
+        JsonNode before = stats();
+        mockMvc.perform(get(path))
+                .andExpect(jsonPath("$.salary").value(1500.0))
+                .andExpect(jsonPath("$.version").value(1));
+        assertThat(stats().get("misses").asLong() - before.get("misses").asLong()).isEqualTo(1);
+
+        mockMvc.perform(delete(path)).andExpect(status().isNoContent());
+        mockMvc.perform(get(path)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void missingEmployeesAreNotCached() throws Exception {
+        JsonNode before = stats();
+        mockMvc.perform(get("/api/v1/employees/" + Integer.MAX_VALUE)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/" + Integer.MAX_VALUE)).andExpect(status().isNotFound());
+
+        JsonNode after = stats();
+        assertThat(after.get("misses").asLong() - before.get("misses").asLong()).isEqualTo(2);
+        assertThat(after.get("hits").asLong()).isEqualTo(before.get("hits").asLong());
+    }
+
+    private JsonNode stats() throws Exception {
+        return objectMapper.readTree(mockMvc.perform(get("/api/v1/employees/cache/stats"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString());
+    }
+}
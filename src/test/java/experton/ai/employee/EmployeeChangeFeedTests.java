@@ -0,0 +1,171 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.exception.ValidationException;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeChangeRepository;
+import experton.ai.employee.service.EmployeeService;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:change-feed")
+@AutoConfigureMockMvc
+class EmployeeChangeFeedTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    @Test
+    void concurrentWritesGetGapFreeSequenceNumbers() throws Exception {
+        long since = lastSequence();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<Employee>> writes = new ArrayList<>();
+        List<Integer> ids = new ArrayList<>();
+        try {
+            for (int i = 0; i < 80; i++) {
+                String name = "Concurrent " + i;
+                writes.add(executor.submit(() -> employeeService.saveEmployee(newEmployee(name))));
+            }
+            for (Future<Employee> write : writes) {
+                ids.add(write.get().getId());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        // A rejected write rolls back without using a sequence number
+        assertThatThrownBy(() -> employeeService.saveEmployee(newEmployee(" ")))
+                .isInstanceOf(ValidationException.class);
+
+        JsonNode changes = read(since, 1000).get("changes");
+        assertThat(changes).hasSize(80);
+        assertThat(changes.findValues("sequence")).extracting(JsonNode::asLong)
+                .containsExactlyElementsOf(LongStream.rangeClosed(since + 1, since + 80).boxed().toList());
+        assertThat(changes.findValues("employeeId")).extracting(JsonNode::asInt)
+                .containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(lastSequence()).isEqualTo(since + 80);
+    }
+
+    @Test
+    void changesOfOneEmployeeAreLoggedInOrder() throws Exception {
+        long since = lastSequence();
+        Employee employee = employeeService.saveEmployee(newEmployee("Ordered"));
+        mockMvc.perform(patch("/api/v1/employees/" + employee.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": 2500}")).andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/employees/" + employee.getId())).andExpect(status().isNoContent());
+
+        changes(get("/api/v1/employees/changes").param("since", Long.toString(since)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[*].type").value(contains("CREATED", "UPDATED", "DELETED")))
+                .andExpect(jsonPath("$.changes[1].employee.salary").value(2500.0))
+                .andExpect(jsonPath("$.changes[1].employee.version").value(1))
+                .andExpect(jsonPath("$.changes[2].employee").doesNotExist())
+                .andExpect(jsonPath("$.nextSince").value(since + 3));
+    }
+
+    @Test
+    void readingResumesFromTheLastPosition() throws Exception {
+        long since = lastSequence();
+        for (int i = 0; i < 5; i++) {
+            employeeService.saveEmployee(newEmployee("Resumed " + i));
+        }
+
+        List<String> names = new ArrayList<>();
+        long position = since;
+        JsonNode batch;
+        do {
+            batch = read(position, 2);
+            batch.get("changes").forEach(change -> names.add(change.at("/employee/name").asText()));
+            assertThat(batch.get("changes").size()).isLessThanOrEqualTo(2);
+            position = batch.get("nextSince").asLong();
+        } while (!batch.get("changes").isEmpty());
+
+        assertThat(names).containsExactly("Resumed 0", "Resumed 1", "Resumed 2", "Resumed 3", "Resumed 4");
+        assertThat(position).isEqualTo(since + 5);
+    }
+
+    @Test
+    void longPollCompletesWhenAChangeIsCommitted() throws Exception {
+        long since = lastSequence();
+        MvcResult poll = mockMvc.perform(get("/api/v1/employees/changes")
+                        .param("since", Long.toString(since)).param("wait", "30"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        Employee employee = employeeService.saveEmployee(newEmployee("Awaited"));
+
+        mockMvc.perform(asyncDispatch(poll))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes[0].sequence").value(since + 1))
+                .andExpect(jsonPath("$.changes[0].employeeId").value(employee.getId()));
+    }
+
+    @Test
+    void invalidPositionIsRejected() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/changes").param("since", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("since"));
+    }
+
+    private JsonNode read(long since, int limit) throws Exception {
+        String body = changes(get("/api/v1/employees/changes")
+                        .param("since", Long.toString(since)).param("limit", Integer.toString(limit)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    /**
+     * The change feed answers with a {@code DeferredResult}, even when it is complete at once.
+     */
+    private ResultActions changes(RequestBuilder request) throws Exception {
+        return mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn()));
+    }
+
+    private long lastSequence() {
+        return changeRepository.findLastSequence();
+    }
+
+    private static Employee newEmployee(String name) {
+        return new Employee(null, name, LocalDate.of(2020, 1, 1), EmployeeStatus.Active, Department.IT, 1000.0,
+                null, null);
+    }
+}
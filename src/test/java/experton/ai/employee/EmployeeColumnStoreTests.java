@@ -0,0 +1,169 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.assertj.core.api.Assertions.within;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.analytics.EmployeeColumns;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.EmployeeRequest;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.repository.EmployeeSpecifications;
+import experton.ai.employee.service.EmployeeService;
+import experton.ai.employee.service.EmployeeStatsService;
+
+/**
+ * Checks that the column store answers list and ranking reads exactly as the database does
+ * after creates, updates and deletes, and that its breakdown adds up.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:column-store",
+        "employee.analytics.enabled=true" })
+class EmployeeColumnStoreTests {
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeStatsService employeeStatsService;
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void listsMatchTheDatabaseAfterWrites() {
+        Employee manager = employeeService.saveEmployee(newEmployee("Manager", Department.IT, 5000.0, null));
+        Employee first = employeeService.saveEmployee(newEmployee("Alice", Department.IT, 3000.0, manager.getId()));
+        employeeService.saveEmployee(newEmployee("Bob", Department.HR, null, manager.getId()));
+        employeeService.saveEmployee(newEmployee("Carol", Department.HR, 3000.0, null));
+
+        EmployeeRequest raise = new EmployeeRequest();
+        raise.setSalary(4000.0);
+        employeeService.updateEmployee(first.getId(), raise);
+        employeeService.deleteEmployee(manager.getId());
+
+        EmployeeFilter hr = new EmployeeFilter();
+        hr.setDepartment(Department.HR);
+        EmployeeFilter salaried = new EmployeeFilter();
+        salaried.setMinSalary(3500.0);
+
+        assertThat(columnStore.isAvailable()).isTrue();
+        for (EmployeeFilter filter : List.of(new EmployeeFilter(), hr, salaried)) {
+            for (String sortOrder : new String[] { null, "asc", "DESC" }) {
+                assertThat(employeeService.getAllEmployees(sortOrder, filter))
+                        .isEqualTo(fromDatabase(filter, sortOrder));
+            }
+        }
+    }
+
+    @Test
+    void breakdownGroupsByDepartmentAndYear() {
+        EmployeeFilter filter = new EmployeeFilter();
+        filter.setName("Breakdown");
+        employeeService.saveEmployee(newEmployee("Breakdown A", Department.Sales, 1000.0, null));
+        employeeService.saveEmployee(newEmployee("Breakdown B", Department.Sales, 3000.0, null));
+        employeeService.saveEmployee(newEmployee("Breakdown C", Department.Finance, null, null));
+
+        EmployeeBreakdownResponse breakdown = employeeStatsService.getBreakdown(filter);
+
+        assertThat(breakdown.getHeadcount()).isEqualTo(3);
+        assertThat(breakdown.getTotalSalary()).isEqualTo(4000.0);
+        assertThat(breakdown.getMeanSalary()).isEqualTo(2000.0);
+        assertThat(breakdown.getDepartments()).extracting("department", "headcount", "meanSalary")
+                .containsExactly(
+                        tuple(Department.Finance, 1L, null),
+                        tuple(Department.Sales, 2L, 2000.0));
+        assertThat(breakdown.getJoiningYears()).singleElement()
+                .satisfies(year -> assertThat(year.getYear()).isEqualTo(2020));
+    }
+
+    @Test
+    void rankingsMatchTheDatabase() {
+        for (int i = 0; i < 50; i++) {
+            employeeService.saveEmployee(newEmployee("Ranked " + i, Department.values()[i % 5],
+                    i % 7 == 0 ? null : 1000.0 + (i * 37) % 500, null));
+        }
+
+        for (String sortOrder : new String[] { null, "asc" }) {
+            Sort sort = Sort.by("asc".equals(sortOrder) ? Sort.Direction.ASC : Sort.Direction.DESC, "salary", "id");
+            assertThat(employeeStatsService.getTopSalaries(new EmployeeFilter(), 5, sortOrder))
+                    .isEqualTo(employeeRepository.findResponses(EmployeeSpecifications.hasSalary(), sort, 0, 5));
+        }
+
+        List<Double> percentiles = List.of(0.99, 0.0, 0.37, 0.9, 1.0);
+        SalaryPercentilesResponse overall = employeeStatsService
+                .getSalaryPercentiles(new EmployeeFilter(), percentiles).get(0);
+        assertThat(overall.getDepartment()).isNull();
+        for (int i = 0; i < percentiles.size(); i++) {
+            Double expected = jdbcTemplate.queryForObject(
+                    "SELECT PERCENTILE_CONT(?) WITHIN GROUP (ORDER BY salary) FROM employees", Double.class,
+                    percentiles.get(i));
+            assertThat(overall.getPercentiles().get(i).getSalary()).isCloseTo(expected, within(1e-9));
+        }
+    }
+
+    @Test
+    void rowsSurviveRandomPutsAndRemoves() {
+        EmployeeColumns columns = new EmployeeColumns(0);
+        Map<Integer, EmployeeResponse> expected = new HashMap<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            int id = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertThat(columns.remove(id)).isEqualTo(expected.remove(id) != null);
+            } else {
+                EmployeeResponse employee = new EmployeeResponse(id, "E" + id, LocalDate.of(2020, 1, 1),
+                        EmployeeStatus.Active, Department.IT, (double) random.nextInt(100), null, 0L);
+                columns.put(employee);
+                expected.put(id, employee);
+            }
+        }
+        assertThat(columns.select(new EmployeeFilter(), null))
+                .containsExactlyElementsOf(expected.values().stream()
+                        .sorted((a, b) -> Integer.compare(a.getId(), b.getId())).toList());
+        assertThat(columns.top(new EmployeeFilter(), 10, true))
+                .isEqualTo(columns.select(new EmployeeFilter(), "desc").subList(0, 10));
+    }
+
+    private List<EmployeeResponse> fromDatabase(EmployeeFilter filter, String sortOrder) {
+        Sort sort = sortOrder == null ? Sort.by("id")
+                : Sort.by("DESC".equalsIgnoreCase(sortOrder) ? Sort.Direction.DESC : Sort.Direction.ASC, "salary", "id");
+        return employeeRepository.findResponses(EmployeeSpecifications.matches(filter), sort, 0, null);
+    }
+
+    private static Employee newEmployee(String name, Department department, Double salary, Integer managerId) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setDateOfJoining(LocalDate.of(2020, 1, 1));
+        employee.setStatus(EmployeeStatus.Active);
+        employee.setDepartment(department);
+        employee.setSalary(salary);
+        employee.setManagerId(managerId);
+        return employee;
+    }
+}
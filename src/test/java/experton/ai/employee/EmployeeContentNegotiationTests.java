@@ -0,0 +1,139 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+/**
+ * JSON and Smile bodies of the same resource, and gzip, against the running server: the
+ * compression is Tomcat's, which MockMvc does not exercise.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.datasource.url=jdbc:h2:mem:content-negotiation")
+class EmployeeContentNegotiationTests {
+
+    private static final String SMILE = "application/x-jackson-smile";
+
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        for (int i = 0; i < 40; i++) {
+            employee = employeeRepository.save(new Employee(null, "Employee " + i, LocalDate.of(2020, 1, 1),
+                    EmployeeStatus.Active, Department.IT, 1000.0 + i, null, null));
+        }
+    }
+
+    @Test
+    void smileIsWrittenWhenAskedFor() throws Exception {
+        HttpResponse<byte[]> response = get("/" + employee.getId(), SMILE, null, null);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValue(SMILE);
+        JsonNode body = new SmileMapper().readTree(response.body());
+        assertThat(body.get("name").asText()).isEqualTo("Employee 39");
+        assertThat(body.get("version").asLong()).isZero();
+    }
+
+    @Test
+    void jsonIsPreferredForWildcards() throws Exception {
+        HttpResponse<byte[]> response = get("/" + employee.getId(), "*/*", null, null);
+
+        assertThat(response.headers().firstValue("Content-Type")).hasValue("application/json");
+        assertThat(response.headers().firstValue("ETag")).hasValue("\"0\"");
+    }
+
+    @Test
+    void eachFormatHasItsOwnETag() throws Exception {
+        String path = "/" + employee.getId();
+        HttpResponse<byte[]> json = get(path, "application/json", null, null);
+        HttpResponse<byte[]> smile = get(path, SMILE, null, null);
+
+        assertThat(json.headers().firstValue("ETag")).hasValue("\"0\"");
+        assertThat(smile.headers().firstValue("ETag")).hasValue("\"0-smile\"");
+        assertThat(json.headers().allValues("Vary")).contains("Accept");
+        assertThat(smile.headers().allValues("Vary")).contains("Accept");
+
+        // A cached JSON body must not be revalidated as the Smile one
+        assertThat(get(path, SMILE, "\"0\"", null).statusCode()).isEqualTo(200);
+        assertThat(get(path, SMILE, "\"0-smile\"", null).statusCode()).isEqualTo(304);
+        assertThat(get(path, "application/json", "\"0\"", null).statusCode()).isEqualTo(304);
+    }
+
+    @Test
+    void smileTagIsAcceptedAsPrecondition() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url("/" + employee.getId())))
+                .header("Accept", SMILE)
+                .header("Content-Type", "application/json")
+                .header("If-Match", "\"0-smile\"")
+                .method("PATCH", HttpRequest.BodyPublishers.ofString("{\"salary\": 3000}"))
+                .build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("ETag")).hasValue("\"1-smile\"");
+    }
+
+    @Test
+    void listsAreCompressedWhenTheClientAcceptsGzip() throws Exception {
+        HttpResponse<byte[]> plain = get("", "application/json", null, null);
+        HttpResponse<byte[]> gzipped = get("", "application/json", null, "gzip");
+
+        assertThat(plain.headers().firstValue("Content-Encoding")).isEmpty();
+        assertThat(String.join(",", plain.headers().allValues("Vary")).toLowerCase().split("\\s*,\\s*"))
+                .containsExactlyInAnyOrder("accept", "accept-encoding");
+        assertThat(gzipped.headers().firstValue("Content-Encoding")).hasValue("gzip");
+        assertThat(gzipped.body().length).isLessThan(plain.body().length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped.body()))) {
+            assertThat(objectMapper.readTree(in)).isEqualTo(objectMapper.readTree(plain.body()));
+        }
+    }
+
+    private HttpResponse<byte[]> get(String path, String accept, String ifNoneMatch, String acceptEncoding)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(url(path))).header("Accept", accept);
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + port + "/api/v1/employees" + path;
+    }
+}
@@ -0,0 +1,52 @@
+package experton.ai.employee;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:error-response")
+@AutoConfigureMockMvc
+class EmployeeErrorResponseTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void missingEmployeeIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/" + Integer.MAX_VALUE))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errors[0].field").value("id"))
+                .andExpect(jsonPath("$.errors[0].message").value("Employee not found with id: " + Integer.MAX_VALUE));
+        mockMvc.perform(delete("/api/v1/employees/" + Integer.MAX_VALUE)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/employees/" + Integer.MAX_VALUE + "/chain")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void unreadableValuesNameTheirField() throws Exception {
+        mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"A\", \"status\": \"Retired\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("status"))
+                .andExpect(jsonPath("$.errors[0].message")
+                        .value("Invalid status value. Allowed values are: Active, Not_Active"));
+        mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"A\", \"department\": \"Legal\"}"))
+                .andExpect(jsonPath("$.errors[0].message")
+                        .value("Invalid department value. Allowed values are: HR, IT, Finance, Sales, Marketing"));
+        mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"A\", \"dateOfJoining\": \"01/02/2020\"}"))
+                .andExpect(jsonPath("$.errors[0].field").value("dateOfJoining"));
+        mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON).content("{\"name\": "))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("request"));
+    }
+}
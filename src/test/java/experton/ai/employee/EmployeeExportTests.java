@@ -0,0 +1,103 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:export")
+@AutoConfigureMockMvc
+class EmployeeExportTests {
+
+    private static final int EMPLOYEES = 1200;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < EMPLOYEES; i++) {
+            employees.add(new Employee(null, "Exported " + i, LocalDate.of(2020, 1, 1),
+                    i % 3 == 0 ? EmployeeStatus.Not_Active : EmployeeStatus.Active,
+                    i % 2 == 0 ? Department.HR : Department.IT, 1000.0 + i, null, null));
+        }
+        employeeRepository.saveAll(employees);
+    }
+
+    @Test
+    void ndjsonIsTheDefault() throws Exception {
+        String body = export(get("/api/v1/employees/export"), "application/x-ndjson");
+
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(EMPLOYEES);
+        assertThat(body).endsWith("\n");
+        assertThat(objectMapper.readTree(lines.get(0)).get("name").asText()).isEqualTo("Exported 0");
+        assertThat(objectMapper.readTree(lines.get(EMPLOYEES - 1)).get("name").asText())
+                .isEqualTo("Exported " + (EMPLOYEES - 1));
+    }
+
+    @Test
+    void jsonArrayIsWrittenWhenOnlyJsonIsAccepted() throws Exception {
+        JsonNode rows = objectMapper.readTree(export(get("/api/v1/employees/export")
+                .accept("application/json"), "application/json"));
+
+        assertThat(rows.isArray()).isTrue();
+        assertThat(rows).hasSize(EMPLOYEES);
+
+        // NDJSON is still preferred when the client accepts both
+        export(get("/api/v1/employees/export").accept("application/json, application/x-ndjson"),
+                "application/x-ndjson");
+    }
+
+    @Test
+    void exportIsFiltered() throws Exception {
+        List<String> lines = export(get("/api/v1/employees/export").param("department", "HR")
+                .param("status", "Active"), "application/x-ndjson").lines().toList();
+
+        assertThat(lines).hasSize(400);
+        for (String line : lines) {
+            JsonNode row = objectMapper.readTree(line);
+            assertThat(row.get("department").asText()).isEqualTo("HR");
+            assertThat(row.get("status").asText()).isEqualTo("Active");
+        }
+    }
+
+    /**
+     * The export is written by a {@code StreamingResponseBody}, which completes asynchronously.
+     */
+    private String export(RequestBuilder request, String contentType) throws Exception {
+        return mockMvc.perform(asyncDispatch(mockMvc.perform(request).andReturn()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(contentType))
+                .andReturn().getResponse().getContentAsString();
+    }
+}
@@ -0,0 +1,186 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+import experton.ai.employee.dto.ImportJobResponse;
+import experton.ai.employee.enums.ImportStatus;
+import experton.ai.employee.repository.ImportRefRepository;
+import experton.ai.employee.service.EmployeeImportService;
+
+/**
+ * Imports run with two rows per chunk, so managerRef resolution crosses chunks and passes.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:employee-import",
+        "employee.import.chunk-size=2" })
+@AutoConfigureMockMvc
+class EmployeeImportTests {
+
+    @TempDir
+    static Path importDir;
+
+    @DynamicPropertySource
+    static void importProperties(DynamicPropertyRegistry registry) {
+        registry.add("employee.import.directory", () -> importDir.toString());
+    }
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeImportService importService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @SpyBean
+    private ImportRefRepository importRefRepository;
+
+    @Test
+    void csvImportWritesManagersBeforeReports() throws Exception {
+        jdbcTemplate.update("INSERT INTO employees (id, name, date_of_joining, status, department, version) "
+                + "VALUES (900001, 'Csv Existing', DATE '2000-01-01', 'Active', 'HR', 0)");
+        String csv = """
+                ref,managerRef,name,dateOfJoining,status,department,salary,managerId
+                dev,lead,Csv Dev,2021-03-01,Active,IT,3000,
+                lead,cto,"Csv Lead, Platform",2019-01-01,Active,IT,5000,
+                bad,,Csv Bad,2020-01-01,Retired,IT,,
+                cto,,Csv Cto,2015-01-01,Active,IT,9000,
+                loop1,loop2,Csv Loop One,2020-01-01,Active,HR,,
+                loop2,loop1,Csv Loop Two,2020-01-01,Active,HR,,
+                orphan,bad,Csv Orphan,2020-01-01,Active,HR,,
+                ,,Csv Existing Report,2020-01-01,Active,HR,,900001
+                """;
+
+        String location = mockMvc.perform(post("/api/v1/employees/imports")
+                        .contentType(MediaType.parseMediaType("text/csv")).content(csv))
+                .andExpect(status().isAccepted())
+                .andExpect(header().exists("Location"))
+                .andExpect(jsonPath("$.totalRows").value(8))
+                .andReturn().getResponse().getHeader("Location");
+        String id = location.substring(location.lastIndexOf('/') + 1);
+
+        ImportJobResponse job = awaitJob(id);
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getImportedRows()).isEqualTo(4);
+        assertThat(job.getFailedRows()).isEqualTo(4);
+        assertThat(job.getPendingRows()).isZero();
+        assertThat(job.getErrors()).extracting("row", "ref")
+                .containsExactly(
+                        tuple(3L, "bad"),
+                        tuple(5L, "loop1"),
+                        tuple(6L, "loop2"),
+                        tuple(7L, "orphan"));
+        assertThat(job.getErrors().get(0).getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.getField()).isEqualTo("status"));
+        assertThat(job.getErrors().get(3).getErrors().get(0).getMessage()).isEqualTo("Manager not found with ref: bad");
+
+        Map<String, Object> managers = Map.of(
+                "Csv Dev", "Csv Lead, Platform",
+                "Csv Lead, Platform", "Csv Cto",
+                "Csv Existing Report", "Csv Existing");
+        managers.forEach((report, manager) -> assertThat(jdbcTemplate.queryForObject(
+                "SELECT m.name FROM employees e JOIN employees m ON m.id = e.manager_id WHERE e.name = ?",
+                String.class, report)).isEqualTo(manager));
+
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("COMPLETED"));
+        mockMvc.perform(get("/api/v1/employees/imports/unknown")).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void failedImportResumesAfterLastCommittedChunk() throws Exception {
+        // The second chunk fails while writing; every other call reaches the repository
+        Answer<?> repository = mockingDetails(importRefRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicInteger calls = new AtomicInteger();
+        doAnswer(invocation -> {
+            if (calls.incrementAndGet() == 2) {
+                throw new DataAccessResourceFailureException("Disk full");
+            }
+            return repository.answer(invocation);
+        }).when(importRefRepository).saveAll(any());
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 1; i <= 5; i++) {
+            json.append(i > 1 ? "," : "").append("{\"ref\":\"r").append(i).append("\"")
+                    .append(i > 1 ? ",\"managerRef\":\"r1\"" : "")
+                    .append(",\"name\":\"Json ").append(i).append("\",\"dateOfJoining\":\"2020-01-01\"")
+                    .append(",\"status\":\"Active\",\"department\":\"Sales\"}");
+        }
+        String response = mockMvc.perform(post("/api/v1/employees/imports")
+                        .contentType(MediaType.APPLICATION_JSON).content(json.append("]").toString()))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        String id = JsonPath.read(response, "$.id");
+
+        ImportJobResponse failed = awaitJob(id);
+        assertThat(failed.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(failed.getFailure()).isEqualTo("Disk full");
+        assertThat(failed.getImportedRows()).isEqualTo(2);
+
+        mockMvc.perform(post("/api/v1/employees/imports/" + id + "/resume")).andExpect(status().isAccepted());
+        ImportJobResponse resumed = awaitJob(id);
+        assertThat(resumed.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(resumed.getImportedRows()).isEqualTo(5);
+        List<Integer> managerIds = jdbcTemplate.queryForList(
+                "SELECT manager_id FROM employees WHERE name LIKE 'Json %' AND name <> 'Json 1'", Integer.class);
+        Integer managerId = jdbcTemplate.queryForObject("SELECT id FROM employees WHERE name = 'Json 1'", Integer.class);
+        assertThat(managerIds).hasSize(4).containsOnly(managerId);
+
+        mockMvc.perform(post("/api/v1/employees/imports/" + id + "/resume")).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void importsAreRefusedWhileStopped() throws Exception {
+        importService.stop();
+        try {
+            mockMvc.perform(post("/api/v1/employees/imports").contentType(MediaType.parseMediaType("text/csv"))
+                            .content("name,dateOfJoining,status,department\nCsv Late,2020-01-01,Active,IT\n"))
+                    .andExpect(status().isServiceUnavailable())
+                    .andExpect(jsonPath("$.errors[0].field").value("import"));
+        } finally {
+            importService.start();
+        }
+    }
+
+    private ImportJobResponse awaitJob(String id) throws InterruptedException {
+        for (int i = 0; i < 200; i++) {
+            ImportJobResponse job = importService.getJob(id);
+            if (job.getStatus() == ImportStatus.COMPLETED || job.getStatus() == ImportStatus.FAILED) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Import " + id + " did not finish");
+    }
+}
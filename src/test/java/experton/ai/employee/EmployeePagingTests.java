@@ -0,0 +1,124 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:paging")
+@AutoConfigureMockMvc
+class EmployeePagingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final List<Integer> ids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        ids.clear();
+        // Ties on salary are ordered by id, in the direction of the sort
+        for (double salary : new double[] { 3000, 1000, 2000, 2000, 1000, 3000, 2000 }) {
+            ids.add(employeeRepository.save(new Employee(null, "Paid " + salary, LocalDate.of(2020, 1, 1),
+                    EmployeeStatus.Active, Department.IT, salary, null, null)).getId());
+        }
+    }
+
+    @Test
+    void offsetPagesFollowIdOrder() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("size", "3").param("page", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(3), ids.get(4), ids.get(5))))
+                .andExpect(header().string("X-Next-Page", "2"))
+                .andExpect(header().exists("X-Next-Cursor"));
+        mockMvc.perform(get("/api/v1/employees").param("size", "3").param("page", "2"))
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(6))))
+                .andExpect(header().doesNotExist("X-Next-Page"))
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+    }
+
+    @Test
+    void salaryCursorsWalkTheWholeSortedList() throws Exception {
+        for (String sort : new String[] { "asc", "desc" }) {
+            List<Integer> sorted = idsOf(objectMapper.readTree(mockMvc.perform(get("/api/v1/employees")
+                    .param("sort", sort)).andReturn().getResponse().getContentAsString()));
+            assertThat(sorted).hasSameElementsAs(ids);
+
+            List<Integer> walked = new ArrayList<>();
+            String cursor = null;
+            do {
+                MockHttpServletResponse page = mockMvc.perform(get("/api/v1/employees").param("sort", sort)
+                        .param("size", "2").param("cursor", cursor))
+                        .andExpect(status().isOk())
+                        .andReturn().getResponse();
+                walked.addAll(idsOf(objectMapper.readTree(page.getContentAsString())));
+                cursor = page.getHeader("X-Next-Cursor");
+                // Only the first page, read without a cursor, has a next page number
+                assertThat(page.getHeader("X-Next-Page")).isEqualTo(walked.size() == 2 ? "1" : null);
+            } while (cursor != null);
+            assertThat(walked).isEqualTo(sorted);
+        }
+    }
+
+    @Test
+    void salarySortBreaksTiesById() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").param("sort", "desc").param("size", "3"))
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(5), ids.get(0), ids.get(6))));
+        mockMvc.perform(get("/api/v1/employees").param("sort", "asc").param("size", "3"))
+                .andExpect(jsonPath("$[*].id").value(contains(ids.get(1), ids.get(4), ids.get(2))));
+    }
+
+    @Test
+    void invalidPagingIsRejected() throws Exception {
+        String cursor = mockMvc.perform(get("/api/v1/employees").param("sort", "asc").param("size", "2"))
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        mockMvc.perform(get("/api/v1/employees").param("sort", "desc").param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].message").value("Cursor was issued for a different sort order"));
+        mockMvc.perform(get("/api/v1/employees").param("page", "1").param("cursor", cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[*].field").value(contains("cursor", "cursor")));
+        mockMvc.perform(get("/api/v1/employees").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].message").value("Invalid cursor"));
+        mockMvc.perform(get("/api/v1/employees").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("size"));
+    }
+
+    private static List<Integer> idsOf(JsonNode rows) {
+        List<Integer> result = new ArrayList<>();
+        rows.forEach(row -> result.add(row.get("id").asInt()));
+        return result;
+    }
+}
@@ -0,0 +1,68 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * Profiling on with a zero threshold, so every API request is logged as slow.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:profiling",
+        "employee.profiling.enabled=true",
+        "employee.profiling.slow-request-threshold-ms=0",
+        "employee.cache.enabled=false" })
+@AutoConfigureMockMvc
+@ExtendWith(OutputCaptureExtension.class)
+class EmployeeProfilingTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void responsesCarryTheirProfile(CapturedOutput output) throws Exception {
+        String created = mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"Profiled\", \"dateOfJoining\": \"2020-01-01\", \"status\": \"Active\", "
+                                + "\"department\": \"IT\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        Integer id = JsonPath.read(created, "$.id");
+
+        mockMvc.perform(get("/api/v1/employees/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", Matchers.allOf(
+                        Matchers.startsWith("total;dur="),
+                        Matchers.containsString("sql;dur="),
+                        Matchers.containsString("entities;desc=\"1 loaded\""),
+                        Matchers.containsString("write;dur="))));
+
+        mockMvc.perform(patch("/api/v1/employees/" + id).contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"salary\": 4200}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", Matchers.allOf(
+                        Matchers.containsString("flush;dur="),
+                        Matchers.containsString("read;dur="),
+                        Matchers.containsString("validation;dur="),
+                        Matchers.not(Matchers.containsString("sql;dur=0.000;desc=\"0 statements\"")))));
+
+        assertThat(output).contains("Slow request method=PATCH path=/api/v1/employees/" + id + " status=200")
+                .contains("sql_statements=").contains("slowest_sql=\"");
+        mockMvc.perform(get("/actuator/health")).andExpect(header().doesNotExist("Server-Timing"));
+    }
+}
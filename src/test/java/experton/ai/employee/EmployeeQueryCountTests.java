@@ -0,0 +1,172 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+/**
+ * Pins the number of SQL statements each endpoint issues, change log included, so a redundant
+ * existence check or re-read shows up as a failing count. Only statements prepared on the
+ * test thread are counted, which leaves out the change feed dispatcher, and fixtures are
+ * written before recording starts so sequence allocation stays out of the measured request.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-count",
+        "employee.cache.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "experton.ai.employee.EmployeeQueryCountTests$StatementRecorder" })
+@AutoConfigureMockMvc
+class EmployeeQueryCountTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Employee manager;
+    private Employee employee;
+
+    @BeforeEach
+    void setUp() {
+        manager = employeeRepository.save(newEmployee("Manager", null));
+        employee = employeeRepository.save(newEmployee("Employee", manager.getId()));
+    }
+
+    @Test
+    void createIssuesInsertAndChangeLogOnly() throws Exception {
+        perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON).content(body(manager.getId())))
+                .andExpect(status().isCreated());
+        // insert, change-log sequence reservation and read-back, change-log insert
+        assertStatements(4);
+    }
+
+    @Test
+    void createWithUnknownManagerIsRejectedByForeignKey() throws Exception {
+        perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON).content(body(Integer.MAX_VALUE)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errors[0].field").value("managerId"));
+        assertStatements(1);
+    }
+
+    @Test
+    void getIssuesOneSelect() throws Exception {
+        perform(get("/api/v1/employees/" + employee.getId())).andExpect(status().isOk());
+        assertStatements(1);
+    }
+
+    @Test
+    void patchIssuesSelectAndUpdate() throws Exception {
+        perform(patch("/api/v1/employees/" + employee.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": 2000.0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(1));
+        // select, update, change-log sequence reservation and read-back, change-log insert
+        assertStatements(5);
+    }
+
+    @Test
+    void patchWithoutChangesWritesNothing() throws Exception {
+        perform(patch("/api/v1/employees/" + employee.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"salary\": " + employee.getSalary() + "}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.version").value(0));
+        // the select only: no update and no change log entry
+        assertStatements(1);
+    }
+
+    @Test
+    void patchManagerAddsOnlyTheCycleCheck() throws Exception {
+        Employee other = employeeRepository.save(newEmployee("Other", null));
+        perform(patch("/api/v1/employees/" + employee.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content("{\"managerId\": " + other.getId() + "}"))
+                .andExpect(status().isOk());
+        assertStatements(6);
+    }
+
+    @Test
+    void deleteIssuesDirectStatements() throws Exception {
+        perform(delete("/api/v1/employees/" + manager.getId())).andExpect(status().isNoContent());
+        // find reports, detach them, re-read them, delete, change-log sequence reservation and
+        // read-back, change-log insert
+        assertStatements(7);
+        assertThat(employeeRepository.findById(employee.getId()).orElseThrow().getManagerId()).isNull();
+    }
+
+    @Test
+    void deleteMissingIssuesNoChangeLogWrites() throws Exception {
+        perform(delete("/api/v1/employees/" + Integer.MAX_VALUE)).andExpect(status().isNotFound());
+        assertStatements(2);
+    }
+
+    private ResultActions perform(RequestBuilder request) throws Exception {
+        StatementRecorder.start();
+        return mockMvc.perform(request);
+    }
+
+    private static void assertStatements(int expected) {
+        assertThat(StatementRecorder.statements).hasSize(expected);
+    }
+
+    private static Employee newEmployee(String name, Integer managerId) {
+        Employee employee = new Employee();
+        employee.setName(name);
+        employee.setDateOfJoining(LocalDate.of(2020, 1, 1));
+        employee.setStatus(EmployeeStatus.Active);
+        employee.setDepartment(Department.IT);
+        employee.setSalary(1000.0);
+        employee.setManagerId(managerId);
+        return employee;
+    }
+
+    private static String body(Integer managerId) {
+        return "{\"name\": \"New\", \"dateOfJoining\": \"2021-01-01\", \"status\": \"Active\", "
+                + "\"department\": \"IT\", \"salary\": 1500.0, \"managerId\": " + managerId + "}";
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the thread that last called {@link #start}.
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+        private static volatile Thread recordedThread;
+
+        static void start() {
+            statements.clear();
+            recordedThread = Thread.currentThread();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == recordedThread) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
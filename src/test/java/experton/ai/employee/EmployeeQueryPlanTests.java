@@ -0,0 +1,161 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import experton.ai.employee.dto.EmployeeCursor;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.service.EmployeeService;
+import experton.ai.employee.service.EmployeeStatsService;
+
+/**
+ * Pins the common list filters to the indexes declared on {@code Employee}. Each test runs
+ * the service call and EXPLAINs the SQL Hibernate generated for it, so a change to
+ * {@code EmployeeSpecifications} or the sort is checked as it will run. Criteria values are
+ * rendered as literals so the statement can be explained as captured; the row limits stay
+ * parameters and are bound here.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query-plan",
+        "spring.jpa.properties.hibernate.criteria.value_handling_mode=inline",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "experton.ai.employee.EmployeeQueryPlanTests$StatementRecorder" })
+class EmployeeQueryPlanTests {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeStatsService statsService;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM employees");
+        jdbcTemplate.update("INSERT INTO employees (id, name, date_of_joining, status, department, salary) "
+                + "SELECT X, CONCAT('Employee', X), DATEADD('DAY', X, DATE '2000-01-01'), "
+                + "CASE WHEN MOD(X, 2) = 0 THEN 'Active' ELSE 'Not_Active' END, "
+                + "CASE MOD(X, 5) WHEN 0 THEN 'HR' WHEN 1 THEN 'IT' WHEN 2 THEN 'Finance' "
+                + "WHEN 3 THEN 'Sales' ELSE 'Marketing' END, X * 10.0 "
+                + "FROM SYSTEM_RANGE(1, 2000)");
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    void departmentFilterUsesIndex() {
+        assertListUsesIndex(filter -> filter.setDepartment(Department.IT), "IDX_EMPLOYEES_DEPARTMENT_STATUS_SALARY");
+    }
+
+    @Test
+    void departmentAndStatusFilterUsesIndex() {
+        assertListUsesIndex(filter -> {
+            filter.setDepartment(Department.IT);
+            filter.setStatus(EmployeeStatus.Active);
+        }, "IDX_EMPLOYEES_DEPARTMENT_STATUS_SALARY");
+    }
+
+    @Test
+    void statusAndJoiningRangeUsesIndex() {
+        assertListUsesIndex(filter -> {
+            filter.setStatus(EmployeeStatus.Active);
+            filter.setJoinedFrom(LocalDate.of(2001, 1, 1));
+            filter.setJoinedTo(LocalDate.of(2001, 2, 1));
+        }, "IDX_EMPLOYEES_STATUS_DATE_OF_JOINING");
+    }
+
+    @Test
+    void joiningRangeUsesIndex() {
+        assertListUsesIndex(filter -> {
+            filter.setJoinedFrom(LocalDate.of(2001, 1, 1));
+            filter.setJoinedTo(LocalDate.of(2001, 2, 1));
+        }, "IDX_EMPLOYEES_DATE_OF_JOINING");
+    }
+
+    @Test
+    void salaryRangeUsesIndex() {
+        assertListUsesIndex("asc", filter -> {
+            filter.setMinSalary(100.0);
+            filter.setMaxSalary(200.0);
+        }, "IDX_EMPLOYEES_SALARY_ID");
+    }
+
+    @Test
+    void namePrefixUsesIndex() {
+        assertListUsesIndex(filter -> filter.setName("Employee12"), "IDX_EMPLOYEES_NAME");
+    }
+
+    @Test
+    void salaryKeysetPageUsesIndex() {
+        StatementRecorder.start();
+        employeeService.getEmployeesPage("asc", new EmployeeFilter(), 50, null,
+                new EmployeeCursor("ASC", 500.0, 50).encode());
+        assertUsesIndex("IDX_EMPLOYEES_SALARY_ID");
+    }
+
+    @Test
+    void highestSalariesUseDescendingIndex() {
+        StatementRecorder.start();
+        statsService.getTopSalaries(new EmployeeFilter(), 10, null);
+        assertUsesIndex("IDX_EMPLOYEES_SALARY_ID_DESC");
+    }
+
+    private void assertListUsesIndex(Consumer<EmployeeFilter> filterSetup, String index) {
+        assertListUsesIndex(null, filterSetup, index);
+    }
+
+    private void assertListUsesIndex(String sortOrder, Consumer<EmployeeFilter> filterSetup, String index) {
+        EmployeeFilter filter = new EmployeeFilter();
+        filterSetup.accept(filter);
+        StatementRecorder.start();
+        employeeService.getAllEmployees(sortOrder, filter);
+        assertUsesIndex(index);
+    }
+
+    private void assertUsesIndex(String index) {
+        assertThat(StatementRecorder.statements).hasSize(1);
+        String sql = StatementRecorder.statements.get(0);
+        String plan = jdbcTemplate.query("EXPLAIN " + sql, statement -> {
+            for (int i = 1; i <= statement.getParameterMetaData().getParameterCount(); i++) {
+                statement.setInt(i, 51);
+            }
+        }, (rs, row) -> rs.getString(1)).get(0);
+        assertThat(plan).as(sql).contains(index).doesNotContainIgnoringCase("tableScan");
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the thread that last called {@link #start}.
+     */
+    public static class StatementRecorder implements StatementInspector {
+
+        private static final List<String> statements = new CopyOnWriteArrayList<>();
+        private static volatile Thread recordedThread;
+
+        static void start() {
+            statements.clear();
+            recordedThread = Thread.currentThread();
+        }
+
+        @Override
+        public String inspect(String sql) {
+            if (Thread.currentThread() == recordedThread) {
+                statements.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import experton.ai.employee.exception.TooManyRequestsException;
+import experton.ai.employee.ratelimit.EmployeeRateLimiter;
+import experton.ai.employee.ratelimit.RequestClass;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rate-limit",
+        "employee.rate-limit.full-list.rate=0.001",
+        "employee.rate-limit.full-list.burst=2",
+        "employee.rate-limit.trusted-proxies=127.0.0.1",
+        "employee.rate-limit.sorted.max-concurrency=1" })
+@AutoConfigureMockMvc
+class EmployeeRateLimitTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRateLimiter rateLimiter;
+
+    @Test
+    void fullListBudgetIsPerClientAndSeparateFromPages() throws Exception {
+        mockMvc.perform(get("/api/v1/employees").header("X-Client-Id", "batch")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees").header("X-Client-Id", "batch")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees").header("X-Client-Id", "batch"))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"))
+                .andExpect(jsonPath("$.errors[0].field").value("request"));
+
+        mockMvc.perform(get("/api/v1/employees").header("X-Client-Id", "other")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees?size=10").header("X-Client-Id", "batch")).andExpect(status().isOk());
+    }
+
+    @Test
+    void clientHeaderIsIgnoredUnlessSentByATrustedProxy() throws Exception {
+        for (String client : new String[] { "spoof-1", "spoof-2", "spoof-3" }) {
+            mockMvc.perform(get("/api/v1/employees").header("X-Client-Id", client).with(request -> {
+                request.setRemoteAddr("10.0.0.9");
+                return request;
+            })).andExpect(client.equals("spoof-3") ? status().isTooManyRequests() : status().isOk());
+        }
+    }
+
+    @Test
+    void breakdownsShareTheFullListBudgetWithoutTheReplica() throws Exception {
+        RequestPostProcessor client = request -> {
+            request.setRemoteAddr("10.0.0.21");
+            return request;
+        };
+        mockMvc.perform(get("/api/v1/employees/breakdown").with(client)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/salaries/percentiles").with(client)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/employees/breakdown").with(client)).andExpect(status().isTooManyRequests());
+        mockMvc.perform(get("/api/v1/employees/42").with(client)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void concurrencyLimitRejectsUntilPermitIsReleased() {
+        EmployeeRateLimiter.Permit permit = rateLimiter.acquire("first", RequestClass.SORTED, "GET /sorted");
+        assertThatThrownBy(() -> rateLimiter.acquire("second", RequestClass.SORTED, "GET /sorted"))
+                .isInstanceOf(TooManyRequestsException.class);
+        // Each route has its own limit
+        rateLimiter.acquire("second", RequestClass.SORTED, "GET /other").release();
+        permit.release();
+        rateLimiter.acquire("second", RequestClass.SORTED, "GET /sorted").release();
+    }
+}
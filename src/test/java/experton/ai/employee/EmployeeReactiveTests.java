@@ -0,0 +1,91 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import experton.ai.employee.enums.ChangeType;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.model.EmployeeChange;
+import experton.ai.employee.repository.EmployeeChangeRepository;
+import experton.ai.employee.repository.EmployeeRepository;
+
+@SpringBootTest(properties = {
+    "spring.main.web-application-type=reactive",
+    "spring.datasource.url=jdbc:h2:mem:reactive",
+    "employee.reactive.r2dbc-url=r2dbc:h2:mem:///reactive"
+})
+@AutoConfigureWebTestClient
+class EmployeeReactiveTests {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeChangeRepository changeRepository;
+
+    @Test
+    void writesAreLoggedInSequence() {
+        Employee manager = employeeRepository.save(new Employee(null, "Manager", LocalDate.of(2020, 1, 1),
+                EmployeeStatus.Active, Department.IT, 3000.0, null, null));
+        long since = changeRepository.findLastSequence();
+
+        Integer report = webTestClient.post().uri("/api/v1/employees")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\": \"Report\", \"dateOfJoining\": \"2021-03-01\", \"status\": \"Active\", "
+                        + "\"department\": \"IT\", \"salary\": 1500, \"managerId\": " + manager.getId() + "}")
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(Employee.class).returnResult().getResponseBody().getId();
+        webTestClient.patch().uri("/api/v1/employees/" + report)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"salary\": 1600}")
+                .exchange()
+                .expectStatus().isOk();
+        webTestClient.delete().uri("/api/v1/employees/" + manager.getId())
+                .exchange()
+                .expectStatus().isNoContent();
+
+        List<EmployeeChange> changes = changeRepository.findBySequenceGreaterThanOrderBySequenceAsc(since,
+                Limit.unlimited());
+        assertThat(changes).extracting(EmployeeChange::getSequence)
+                .containsExactly(since + 1, since + 2, since + 3, since + 4);
+        assertThat(changes).extracting(EmployeeChange::getType)
+                .containsExactly(ChangeType.CREATED, ChangeType.UPDATED, ChangeType.UPDATED, ChangeType.DELETED);
+        assertThat(changes).extracting(EmployeeChange::getEmployeeId)
+                .containsExactly(report, report, report, manager.getId());
+        assertThat(changes.get(2).getPayload()).doesNotContain("managerId").contains("\"version\":2");
+        assertThat(changes.get(3).getPayload()).isNull();
+        assertThat(employeeRepository.findById(report).orElseThrow().getManagerId()).isNull();
+    }
+
+    @Test
+    void failedWritesAreNotLogged() {
+        long since = changeRepository.findLastSequence();
+
+        webTestClient.patch().uri("/api/v1/employees/" + Integer.MAX_VALUE)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"salary\": 1600}")
+                .exchange()
+                .expectStatus().isNotFound();
+        webTestClient.delete().uri("/api/v1/employees/" + Integer.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound();
+
+        assertThat(changeRepository.findLastSequence()).isEqualTo(since);
+    }
+}
@@ -0,0 +1,26 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import experton.ai.employee.config.EmployeeRuntimeHints;
+import experton.ai.employee.dto.EmployeeChangeBatch;
+import experton.ai.employee.dto.EmployeeChangeResponse;
+
+class EmployeeRuntimeHintsTests {
+
+    @Test
+    void registersChangeFeedPayloadsAndConstraintsScript() {
+        RuntimeHints hints = new RuntimeHints();
+        new EmployeeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeChangeBatch.class, "getChanges"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(EmployeeChangeResponse.class, "getEmployee"))
+                .accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/constraints.sql")).accepts(hints);
+    }
+}
@@ -0,0 +1,73 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.introspect.BeanPropertyDefinition;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import experton.ai.employee.config.JacksonConfig;
+import experton.ai.employee.dto.EmployeeResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+
+/**
+ * The hand-written {@link EmployeeResponse} serializer against Jackson's reflective bean
+ * serializer, which follows the class's own annotations.
+ */
+class EmployeeSerializationTests {
+
+    private final ObjectMapper objectMapper = new JacksonConfig().objectMapper(Jackson2ObjectMapperBuilder.json());
+    private final ObjectMapper reflectiveMapper = Jackson2ObjectMapperBuilder.json().build()
+            .registerModule(new JavaTimeModule());
+
+    @Test
+    void writesEveryPropertyJacksonFinds() throws Exception {
+        Set<String> properties = reflectiveMapper.getSerializationConfig()
+                .introspect(reflectiveMapper.constructType(EmployeeResponse.class))
+                .findProperties().stream()
+                .map(BeanPropertyDefinition::getName)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        EmployeeResponse complete = new EmployeeResponse(7, "Complete", LocalDate.of(2020, 2, 29),
+                EmployeeStatus.Active, Department.Finance, 1234.5, 3, 2L);
+
+        Set<String> written = new LinkedHashSet<>();
+        for (Iterator<String> names = objectMapper.readTree(objectMapper.writeValueAsBytes(complete)).fieldNames();
+                names.hasNext();) {
+            written.add(names.next());
+        }
+        assertThat(written).containsExactlyElementsOf(properties);
+    }
+
+    @Test
+    void writesTheSameBytesAsReflectiveSerialization() throws Exception {
+        List<EmployeeResponse> responses = new ArrayList<>();
+        responses.add(new EmployeeResponse(1, "Ada \"Quoted\" é", LocalDate.of(2021, 1, 5),
+                EmployeeStatus.Not_Active, Department.HR, 0.1, null, 0L));
+        responses.add(new EmployeeResponse(2, null, null, null, null, null, null, null));
+        responses.add(new EmployeeResponse(3, "Early", LocalDate.of(999, 12, 31), EmployeeStatus.Active,
+                Department.IT, 1e9, 1, 5L));
+        responses.add(new EmployeeResponse(4, "Late", LocalDate.of(10000, 1, 1), EmployeeStatus.Active,
+                Department.Marketing, 12.0, 2, Long.MAX_VALUE));
+        for (int i = 0; i < 100; i++) {
+            responses.add(new EmployeeResponse(10 + i, "Employee " + i, LocalDate.of(2000, 1, 1).plusDays(i * 37),
+                    EmployeeStatus.values()[i % EmployeeStatus.values().length],
+                    Department.values()[i % Department.values().length], 1000.0 + i * 0.25, i % 3 == 0 ? null : i,
+                    (long) i));
+        }
+
+        assertThat(objectMapper.writeValueAsString(responses))
+                .isEqualTo(reflectiveMapper.writeValueAsString(responses));
+    }
+}
@@ -0,0 +1,193 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import experton.ai.employee.shard.ShardClient;
+
+/**
+ * Three shards in one JVM, each with its own in-memory database, on ports chosen up front so
+ * every instance can be given the addresses of all of them. Ranges of 1000 ids keep the
+ * owner of each id easy to read.
+ */
+class EmployeeShardingTests {
+
+    private static final int SHARDS = 3;
+    private static final int ID_RANGE = 1000;
+    private static final TypeReference<List<Map<String, Object>>> ROWS = new TypeReference<>() {
+    };
+
+    private static final List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+    private static final List<String> urls = new ArrayList<>();
+    private static final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    @BeforeAll
+    static void startShards() throws IOException {
+        for (int shard = 0; shard < SHARDS; shard++) {
+            try (ServerSocket socket = new ServerSocket(0)) {
+                urls.add("http://localhost:" + socket.getLocalPort());
+            }
+        }
+        for (int shard = 0; shard < SHARDS; shard++) {
+            contexts.add(new SpringApplicationBuilder(EmployeeMicroserviceApplication.class).run(
+                    "--server.port=" + URI.create(urls.get(shard)).getPort(),
+                    "--spring.datasource.url=jdbc:h2:mem:shard-" + shard,
+                    "--spring.jpa.show-sql=false",
+                    "--employee.rate-limit.trusted-proxies=127.0.0.1",
+                    "--employee.sharding.enabled=true",
+                    "--employee.sharding.nodes=" + String.join(",", urls),
+                    "--employee.sharding.shard-index=" + shard,
+                    "--employee.sharding.id-range-size=" + ID_RANGE,
+                    "--employee.sharding.secret=shard-secret"));
+        }
+    }
+
+    @AfterAll
+    static void stopShards() {
+        contexts.forEach(ConfigurableApplicationContext::close);
+    }
+
+    @Test
+    void requestsReachTheOwningShardAndReadsSpanAllShards() throws Exception {
+        // Employees without a manager are created where the request arrives
+        int[] heads = new int[SHARDS];
+        for (int shard = 0; shard < SHARDS; shard++) {
+            heads[shard] = create(shard, "Head " + shard, "IT", 5000.0 + shard * 1000, null).get("id").asInt();
+            assertThat((heads[shard] - 1) / ID_RANGE).isEqualTo(shard);
+        }
+        // A report goes to its manager's shard, whichever shard receives it
+        JsonNode report = create(0, "Report of 2", "HR", 4000.0, heads[2]);
+        int reportId = report.get("id").asInt();
+        assertThat((reportId - 1) / ID_RANGE).isEqualTo(2);
+        assertThat(report.get("managerId").asInt()).isEqualTo(heads[2]);
+        create(1, "Unpaid", "HR", null, null);
+
+        HttpResponse<String> fetched = send(1, "GET", "/api/v1/employees/" + reportId, null);
+        assertThat(fetched.statusCode()).isEqualTo(200);
+        assertThat(fetched.headers().firstValue("ETag")).hasValue("\"0\"");
+        HttpResponse<String> updated = send(1, "PATCH", "/api/v1/employees/" + reportId, "{\"salary\": 4500}");
+        assertThat(updated.statusCode()).isEqualTo(200);
+        assertThat(objectMapper.readTree(updated.body()).get("salary").asDouble()).isEqualTo(4500.0);
+        HttpResponse<String> chain = send(0, "GET", "/api/v1/employees/" + reportId + "/chain", null);
+        assertThat(objectMapper.readTree(chain.body()).findValuesAsText("name")).containsExactly("Head 2");
+
+        List<Map<String, Object>> byId = rows(send(2, "GET", "/api/v1/employees", null));
+        assertThat(byId).extracting(row -> (Integer) row.get("id")).isSorted().hasSize(5);
+        List<Map<String, Object>> bySalary = rows(send(2, "GET", "/api/v1/employees?sort=desc", null));
+        assertThat(bySalary).extracting(row -> row.get("name"))
+                .containsExactly("Head 2", "Head 1", "Head 0", "Report of 2", "Unpaid");
+
+        // Walking cursor pages of two through one shard yields the whole sorted list
+        List<Object> walked = new ArrayList<>();
+        String cursor = null;
+        do {
+            HttpResponse<String> page = send(0, "GET", "/api/v1/employees?sort=desc&size=2"
+                    + (cursor != null ? "&cursor=" + cursor : ""), null);
+            rows(page).forEach(row -> walked.add(row.get("name")));
+            cursor = page.headers().firstValue("X-Next-Cursor").orElse(null);
+        } while (cursor != null);
+        assertThat(walked).isEqualTo(bySalary.stream().map(row -> row.get("name")).toList());
+        assertThat(rows(send(1, "GET", "/api/v1/employees?sort=desc&size=2&page=1", null)))
+                .extracting(row -> row.get("name")).containsExactly("Head 0", "Report of 2");
+
+        assertThat(rows(send(0, "GET", "/api/v1/employees/salaries/top?limit=2", null)))
+                .extracting(row -> row.get("name")).containsExactly("Head 2", "Head 1");
+        JsonNode percentiles = objectMapper.readTree(send(1, "GET",
+                "/api/v1/employees/salaries/percentiles?p=0.5&department=IT", null).body());
+        assertThat(percentiles.get(0).get("salaried").asInt()).isEqualTo(3);
+        assertThat(percentiles.get(0).get("percentiles").get(0).get("salary").asDouble()).isEqualTo(6000.0);
+        JsonNode breakdown = objectMapper.readTree(send(2, "GET", "/api/v1/employees/breakdown", null).body());
+        assertThat(breakdown.get("headcount").asInt()).isEqualTo(5);
+        assertThat(breakdown.get("totalSalary").asDouble()).isEqualTo(22500.0);
+        JsonNode stats = objectMapper.readTree(send(0, "GET", "/api/v1/employees/stats", null).body());
+        assertThat(stats.findValuesAsText("department")).containsExactly("HR", "IT");
+        assertThat(stats.get(0).get("headcount").asInt()).isEqualTo(2);
+        assertThat(stats.get(0).get("meanSalary").asDouble()).isEqualTo(4500.0);
+        assertThat(stats.get(1).get("p50Salary").asDouble()).isEqualTo(6000.0);
+        assertThat(send(2, "GET", "/api/v1/employees/export", null, "application/x-ndjson").body().lines())
+                .hasSize(5);
+        assertThat(objectMapper.readTree(send(2, "GET", "/api/v1/employees/export", null, "application/json")
+                .body())).hasSize(5);
+
+        // Invalid parameters fail as on one instance; deletes reach the owner
+        assertThat(send(1, "GET", "/api/v1/employees?sort=sideways", null).statusCode()).isEqualTo(400);
+        assertThat(send(1, "DELETE", "/api/v1/employees/" + reportId, null).statusCode()).isEqualTo(204);
+        assertThat(send(0, "GET", "/api/v1/employees/" + reportId, null).statusCode()).isEqualTo(404);
+
+        // Each client's full lists are charged to it on the shard it asks, not to that shard
+        // on the others
+        for (int i = 0; i < 8; i++) {
+            assertThat(rows(send(0, "GET", "/api/v1/employees", null, "application/json",
+                    "X-Client-Id", "client-" + i))).hasSize(4);
+        }
+        // Shard headers from a client are dropped, and the list is still gathered from all
+        assertThat(rows(send(0, "GET", "/api/v1/employees", null, "application/json",
+                ShardClient.SHARD_HEADER, "1"))).hasSize(4);
+
+        // Without its shard, neither an employee of that shard nor the whole list can be read
+        contexts.get(2).close();
+        assertThat(send(0, "GET", "/api/v1/employees/" + heads[2], null).statusCode()).isEqualTo(503);
+        HttpResponse<String> list = send(0, "GET", "/api/v1/employees", null);
+        assertThat(list.statusCode()).isEqualTo(503);
+        assertThat(objectMapper.readTree(list.body()).at("/errors/0/field").asText()).isEqualTo("shard");
+    }
+
+    private static JsonNode create(int shard, String name, String department, Double salary, Integer managerId)
+            throws Exception {
+        Map<String, Object> employee = new LinkedHashMap<>();
+        employee.put("name", name);
+        employee.put("dateOfJoining", "2020-01-01");
+        employee.put("status", "Active");
+        employee.put("department", department);
+        employee.put("salary", salary);
+        employee.put("managerId", managerId);
+        String body = objectMapper.writeValueAsString(employee);
+        HttpResponse<String> response = send(shard, "POST", "/api/v1/employees", body);
+        assertThat(response.statusCode()).isEqualTo(201);
+        return objectMapper.readTree(response.body());
+    }
+
+    private static List<Map<String, Object>> rows(HttpResponse<String> response) throws IOException {
+        assertThat(response.statusCode()).isEqualTo(200);
+        return objectMapper.readValue(response.body(), ROWS);
+    }
+
+    private static HttpResponse<String> send(int shard, String method, String path, String body) throws Exception {
+        return send(shard, method, path, body, "application/json");
+    }
+
+    private static HttpResponse<String> send(int shard, String method, String path, String body, String accept,
+            String... headers) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(urls.get(shard) + path))
+                .header("Content-Type", "application/json")
+                .header("Accept", accept)
+                .method(method, body != null
+                        ? HttpRequest.BodyPublishers.ofString(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        if (headers.length > 0) {
+            request.headers(headers);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
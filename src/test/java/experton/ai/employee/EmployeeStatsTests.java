@@ -0,0 +1,130 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.contains;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import experton.ai.employee.analytics.EmployeeColumnStore;
+import experton.ai.employee.dto.EmployeeBreakdownResponse;
+import experton.ai.employee.dto.EmployeeFilter;
+import experton.ai.employee.dto.SalaryPercentilesResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.service.EmployeeStatsService;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:stats")
+@AutoConfigureMockMvc
+class EmployeeStatsTests {
+
+    /** Sums and means are added up in a different order by the database. */
+    private static final Comparator<Double> WITHIN_ROUNDING = (a, b) -> Math.abs(a - b) < 1e-9 ? 0 : a.compareTo(b);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeStatsService employeeStatsService;
+
+    @Autowired
+    private EmployeeColumnStore columnStore;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeRepository.saveAll(List.of(
+                newEmployee(Department.HR, EmployeeStatus.Active, 1000.0),
+                newEmployee(Department.HR, EmployeeStatus.Active, 2000.0),
+                newEmployee(Department.HR, EmployeeStatus.Active, 3000.0),
+                newEmployee(Department.HR, EmployeeStatus.Active, 4000.0),
+                newEmployee(Department.HR, EmployeeStatus.Not_Active, 500.0),
+                newEmployee(Department.IT, EmployeeStatus.Active, 1000.0),
+                newEmployee(Department.IT, EmployeeStatus.Active, null)));
+    }
+
+    @Test
+    void statsAreGroupedByDepartmentAndStatus() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].department").value(contains("HR", "HR", "IT")))
+                .andExpect(jsonPath("$[*].status").value(contains("Active", "Not_Active", "Active")))
+                .andExpect(jsonPath("$[0].headcount").value(4))
+                .andExpect(jsonPath("$[0].totalSalary").value(10000.0))
+                .andExpect(jsonPath("$[0].minSalary").value(1000.0))
+                .andExpect(jsonPath("$[0].maxSalary").value(4000.0))
+                .andExpect(jsonPath("$[0].meanSalary").value(2500.0))
+                .andExpect(jsonPath("$[0].p50Salary").value(2500.0))
+                .andExpect(jsonPath("$[0].p90Salary").value(closeTo(3700.0, 1e-9)))
+                .andExpect(jsonPath("$[0].p99Salary").value(closeTo(3970.0, 1e-9)))
+                .andExpect(jsonPath("$[1].headcount").value(1))
+                .andExpect(jsonPath("$[1].p99Salary").value(500.0));
+    }
+
+    @Test
+    void employeesWithoutSalaryAreCountedButNotAveraged() throws Exception {
+        mockMvc.perform(get("/api/v1/employees/stats"))
+                .andExpect(jsonPath("$[2].headcount").value(2))
+                .andExpect(jsonPath("$[2].totalSalary").value(1000.0))
+                .andExpect(jsonPath("$[2].meanSalary").value(1000.0))
+                .andExpect(jsonPath("$[2].p50Salary").value(1000.0));
+    }
+
+    @Test
+    void breakdownIsGroupedByTheDatabaseWithoutTheReplica() {
+        employeeRepository.saveAll(List.of(
+                new Employee(null, "Early", LocalDate.of(2015, 6, 1), EmployeeStatus.Active, Department.Sales,
+                        750.0, null, null),
+                new Employee(null, "Undated", null, EmployeeStatus.Active, Department.IT, 1250.0, null, null),
+                new Employee(null, "Unassigned", LocalDate.of(2018, 2, 3), EmployeeStatus.Active, null, 900.0,
+                        null, null)));
+        assertThat(columnStore.isAvailable()).isFalse();
+
+        EmployeeFilter active = new EmployeeFilter();
+        active.setStatus(EmployeeStatus.Active);
+        for (EmployeeFilter filter : List.of(new EmployeeFilter(), active)) {
+            EmployeeBreakdownResponse scanned = columnStore.load().breakdown(filter, LocalDate.now());
+            assertThat(employeeStatsService.getBreakdown(filter)).usingRecursiveComparison()
+                    .withComparatorForType(WITHIN_ROUNDING, Double.class)
+                    .isEqualTo(scanned);
+        }
+    }
+
+    @Test
+    void percentilesAreComputedByTheDatabaseWithoutTheReplica() {
+        EmployeeFilter active = new EmployeeFilter();
+        active.setStatus(EmployeeStatus.Active);
+        EmployeeFilter nobody = new EmployeeFilter();
+        nobody.setName("Nobody");
+        List<Double> percentiles = List.of(0.99, 0.0, 0.37, 1.0);
+        for (EmployeeFilter filter : List.of(new EmployeeFilter(), active, nobody)) {
+            List<SalaryPercentilesResponse> selected = columnStore.load().percentiles(filter,
+                    percentiles.stream().mapToDouble(Double::doubleValue).toArray());
+            assertThat(employeeStatsService.getSalaryPercentiles(filter, percentiles)).usingRecursiveComparison()
+                    .withComparatorForType(WITHIN_ROUNDING, Double.class)
+                    .isEqualTo(selected);
+        }
+    }
+
+    private static Employee newEmployee(Department department, EmployeeStatus status, Double salary) {
+        return new Employee(null, department + " " + status, LocalDate.of(2020, 1, 1), status, department, salary,
+                null, null);
+    }
+}
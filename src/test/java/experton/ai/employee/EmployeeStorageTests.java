@@ -0,0 +1,116 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import experton.ai.employee.dto.EmployeeSnapshotResponse;
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+import experton.ai.employee.storage.EmployeeSnapshotService;
+
+/**
+ * Runs the "persistent" profile's schema setup against an in-memory database: the Flyway
+ * migrations must produce exactly what the JPA mapping expects ({@code ddl-auto=validate}
+ * fails the context otherwise), and a CSV snapshot must restore to the same rows.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:storage",
+        "spring.flyway.enabled=true",
+        "spring.jpa.hibernate.ddl-auto=validate",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.sql.init.mode=never" })
+class EmployeeStorageTests {
+
+    @TempDir
+    static Path snapshotDir;
+
+    @DynamicPropertySource
+    static void storageProperties(DynamicPropertyRegistry registry) {
+        registry.add("employee.storage.snapshot-dir", () -> snapshotDir.toString());
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmployeeSnapshotService snapshotService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @BeforeEach
+    void clear() {
+        jdbcTemplate.update("DELETE FROM employees");
+    }
+
+    @Test
+    void migrationsDeclareManagerForeignKey() {
+        Integer constraints = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS "
+                + "WHERE CONSTRAINT_NAME = 'FK_EMPLOYEES_MANAGER'", Integer.class);
+        assertThat(constraints).isEqualTo(1);
+    }
+
+    @Test
+    void snapshotRestoresSameRows() {
+        // The manager row comes after its report in id order, and values need CSV quoting
+        jdbcTemplate.update("INSERT INTO employees (id, name, date_of_joining, status, department, salary, manager_id, version) "
+                + "VALUES (20, 'Boss, \"The\"', DATE '2001-02-03', 'Active', 'IT', 1234.5, NULL, 3)");
+        jdbcTemplate.update("INSERT INTO employees (id, name, date_of_joining, status, department, salary, manager_id, version) "
+                + "VALUES (10, 'Report', DATE '2010-01-01', 'Not_Active', NULL, NULL, 20, 0)");
+        List<Map<String, Object>> before = jdbcTemplate.queryForList("SELECT * FROM employees ORDER BY id");
+
+        EmployeeSnapshotResponse snapshot = snapshotService.snapshot();
+        assertThat(snapshot.getRows()).isEqualTo(2);
+
+        jdbcTemplate.update("DELETE FROM employees");
+        EmployeeSnapshotResponse restored = snapshotService.restore(Path.of(snapshot.getFile()));
+        assertThat(restored.getRows()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForList("SELECT * FROM employees ORDER BY id")).isEqualTo(before);
+
+        // Ids handed out after a restore must not collide with restored ones
+        Employee employee = new Employee();
+        employee.setName("New");
+        employee.setDateOfJoining(LocalDate.of(2020, 1, 1));
+        employee.setStatus(EmployeeStatus.Active);
+        employee.setDepartment(Department.HR);
+        assertThat(employeeRepository.save(employee).getId()).isGreaterThan(20);
+    }
+
+    @Test
+    void restoreRejectsDanglingManagerReferences() throws IOException {
+        Path csv = Files.writeString(snapshotDir.resolve("dangling.csv"),
+                "ID,NAME,DATE_OF_JOINING,STATUS,DEPARTMENT,SALARY,MANAGER_ID,VERSION\n"
+                        + "1,A,2020-01-01,Active,IT,1.0,,0\n"
+                        + "2,B,2020-01-01,Active,IT,1.0,99,0\n");
+
+        assertThatThrownBy(() -> snapshotService.restore(csv)).isInstanceOf(IllegalStateException.class);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM employees", Integer.class)).isZero();
+    }
+
+    @Test
+    void restoreRefusesNonEmptyTable() {
+        jdbcTemplate.update("INSERT INTO employees (id, name, version) VALUES (1, 'Existing', 0)");
+        EmployeeSnapshotResponse snapshot = snapshotService.snapshot();
+
+        assertThatThrownBy(() -> snapshotService.restore(Path.of(snapshot.getFile())))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
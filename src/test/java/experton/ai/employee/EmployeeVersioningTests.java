@@ -0,0 +1,108 @@
+package experton.ai.employee;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import experton.ai.employee.enums.Department;
+import experton.ai.employee.enums.EmployeeStatus;
+import experton.ai.employee.model.Employee;
+import experton.ai.employee.repository.EmployeeRepository;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:versioning")
+@AutoConfigureMockMvc
+class EmployeeVersioningTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private String path;
+
+    @BeforeEach
+    void setUp() {
+        Employee employee = employeeRepository.save(new Employee(null, "Versioned", LocalDate.of(2020, 1, 1),
+                EmployeeStatus.Active, Department.IT, 1000.0, null, null));
+        path = "/api/v1/employees/" + employee.getId();
+    }
+
+    @Test
+    void createdEmployeeStartsAtVersionZero() throws Exception {
+        mockMvc.perform(post("/api/v1/employees").contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\": \"New\", \"dateOfJoining\": \"2021-03-01\", \"status\": \"Active\", "
+                                + "\"department\": \"HR\", \"salary\": 1500}"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+    }
+
+    @Test
+    void unchangedEmployeeIsNotModified() throws Exception {
+        mockMvc.perform(get(path))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.version").value(0));
+        mockMvc.perform(get(path).header("If-None-Match", "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"0\""));
+
+        update("{\"salary\": 1100}", null).andExpect(header().string("ETag", "\"1\""));
+        mockMvc.perform(get(path).header("If-None-Match", "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.salary").value(1100.0));
+    }
+
+    @Test
+    void updateWithStaleVersionIsRejected() throws Exception {
+        update("{\"salary\": 1100}", "\"0\"")
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        update("{\"salary\": 1200}", "\"0\"")
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errors[0].field").value("If-Match"));
+        mockMvc.perform(get(path)).andExpect(jsonPath("$.salary").value(1100.0));
+
+        // Any of the listed versions, or any version at all, will do
+        update("{\"salary\": 1200}", "\"0\", \"1\"").andExpect(status().isOk());
+        update("{\"salary\": 1300}", "*").andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    void weakTagsNeverMatch() throws Exception {
+        update("{\"salary\": 1100}", "W/\"0\"").andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void updateThatChangesNothingKeepsTheVersion() throws Exception {
+        update("{\"salary\": 1000}", "\"0\"")
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+    }
+
+    private ResultActions update(String body, String ifMatch) throws Exception {
+        MockHttpServletRequestBuilder request = patch(path).contentType(MediaType.APPLICATION_JSON).content(body);
+        if (ifMatch != null) {
+            request.header("If-Match", ifMatch);
+        }
+        return mockMvc.perform(request);
+    }
+}
@@ -0,0 +1,157 @@
+package experton.ai.employee;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Closed-loop load test comparing the platform-thread, virtual-thread and reactive
+ * (WebFlux + R2DBC) execution modes on the same mix of id lookups and list pages. The cache
+ * and rate limiting are off, so every request goes to the database. Excluded from the
+ * default build; run with {@code mvn test -Pload-test}. Results are written to
+ * {@code target/load-test/<mode>.json}.
+ */
+@Tag("load")
+class ExecutionModeLoadTests {
+
+    private static final Logger log = LoggerFactory.getLogger(ExecutionModeLoadTests.class);
+
+    private static final int CONCURRENCY = Integer.getInteger("load.concurrency", 256);
+    private static final int REQUESTS = Integer.getInteger("load.requests", 20_000);
+    private static final int EMPLOYEES = Integer.getInteger("load.employees", 10_000);
+
+    @ParameterizedTest
+    @ValueSource(strings = { "platform", "virtual", "reactive" })
+    void measureThroughputAndTailLatency(String mode) throws Exception {
+        boolean virtual = mode.equals("virtual");
+        assumeTrue(!virtual || Runtime.version().feature() >= 21, "Virtual threads need a Java 21+ runtime");
+
+        SpringApplicationBuilder builder = new SpringApplicationBuilder(EmployeeMicroserviceApplication.class);
+        if (virtual) {
+            builder.profiles("virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = builder.run(
+                "--server.port=0",
+                "--spring.main.web-application-type=" + (mode.equals("reactive") ? "reactive" : "servlet"),
+                "--spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                "--employee.reactive.r2dbc-url=r2dbc:h2:mem:///load-" + mode,
+                "--spring.jpa.show-sql=false",
+                "--employee.cache.enabled=false",
+                "--employee.rate-limit.enabled=false")) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            seed(context.getBean(JdbcTemplate.class));
+
+            long[] latencies = new long[REQUESTS];
+            AtomicInteger next = new AtomicInteger();
+            AtomicInteger failures = new AtomicInteger();
+            ExecutorService workers = Executors.newFixedThreadPool(CONCURRENCY);
+
+            long start = System.nanoTime();
+            for (int worker = 0; worker < CONCURRENCY; worker++) {
+                workers.execute(() -> {
+                    int index;
+                    while ((index = next.getAndIncrement()) < REQUESTS) {
+                        long begin = System.nanoTime();
+                        if (!send(client, baseUrl + nextPath(index))) {
+                            failures.incrementAndGet();
+                        }
+                        latencies[index] = System.nanoTime() - begin;
+                    }
+                });
+            }
+            workers.shutdown();
+            assertThat(workers.awaitTermination(10, TimeUnit.MINUTES)).isTrue();
+            long elapsed = System.nanoTime() - start;
+
+            report(mode, latencies, elapsed, failures.get());
+            assertThat(failures.get()).isZero();
+        }
+    }
+
+    private static String nextPath(int index) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (index % 4 == 0) {
+            return "/api/v1/employees?sort=desc&size=20&page=" + random.nextInt(50);
+        }
+        return "/api/v1/employees/" + (random.nextInt(EMPLOYEES) + 1);
+    }
+
+    private static boolean send(HttpClient client, String url) {
+        try {
+            HttpResponse<Void> response = client.send(HttpRequest.newBuilder(URI.create(url)).build(),
+                    HttpResponse.BodyHandlers.discarding());
+            return response.statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Seeds in SQL rather than through the API so every mode, including the reactive one
+     * without batch endpoints, starts from identical data.
+     */
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("INSERT INTO employees (id, name, date_of_joining, status, department, salary) "
+                + "SELECT X, 'Employee' || X, DATE '2020-01-01', 'Active', 'IT', X FROM SYSTEM_RANGE(1, ?)",
+                EMPLOYEES);
+    }
+
+    private static void report(String mode, long[] latencies, long elapsedNanos, int failures) throws IOException {
+        long[] sorted = latencies.clone();
+        Arrays.sort(sorted);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("mode", mode);
+        result.put("java", Runtime.version().toString());
+        result.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        result.put("concurrency", CONCURRENCY);
+        result.put("requests", REQUESTS);
+        result.put("failures", failures);
+        result.put("throughputPerSecond", REQUESTS / (elapsedNanos / 1e9));
+        result.put("throughputPerSecondPerCore",
+                REQUESTS / (elapsedNanos / 1e9) / Runtime.getRuntime().availableProcessors());
+        result.put("p50Millis", percentile(sorted, 0.50));
+        result.put("p99Millis", percentile(sorted, 0.99));
+        result.put("p999Millis", percentile(sorted, 0.999));
+        result.put("maxMillis", sorted[sorted.length - 1] / 1e6);
+
+        Path output = Path.of("target", "load-test", mode + ".json");
+        Files.createDirectories(output.getParent());
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(output.toFile(), result);
+        log.info("Load test result: {}", result);
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        return sorted[(int) Math.min(sorted.length - 1, Math.ceil(percentile * sorted.length) - 1)] / 1e6;
+    }
+}
@@ -0,0 +1,57 @@
+package experton.ai.employee.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimitTests {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(64, 2.0);
+
+    @Test
+    void mixedLatencyUnderLightLoadKeepsTheLimit() {
+        for (int i = 0; i < 200; i++) {
+            complete(i % 2 == 0 ? FAST : SLOW);
+        }
+        assertThat(limit.getLimit()).isEqualTo(64);
+    }
+
+    @Test
+    void sustainedSlowdownShrinksTheLimitAndRecoveryRestoresIt() {
+        for (int i = 0; i < 500; i++) {
+            complete(FAST);
+        }
+        for (int i = 0; i < 100; i++) {
+            complete(SLOW);
+        }
+        int shrunk = limit.getLimit();
+        assertThat(shrunk).isLessThan(64).isGreaterThan(32);
+
+        // Requests one at a time are enough to grow it back
+        for (int i = 0; i < 1000; i++) {
+            complete(FAST);
+        }
+        assertThat(limit.getLimit()).isEqualTo(64);
+    }
+
+    @Test
+    void requestsBeyondTheLimitAreRejected() {
+        for (int i = 0; i < 64; i++) {
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+        assertThat(limit.tryAcquire()).isFalse();
+        limit.release(FAST);
+        assertThat(limit.getInFlight()).isEqualTo(63);
+        assertThat(limit.tryAcquire()).isTrue();
+    }
+
+    private void complete(long latencyNanos) {
+        assertThat(limit.tryAcquire()).isTrue();
+        limit.release(latencyNanos);
+    }
+}